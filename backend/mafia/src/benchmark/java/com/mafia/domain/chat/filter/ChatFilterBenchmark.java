@@ -0,0 +1,112 @@
+package com.mafia.domain.chat.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 금칙어 마스킹 처리량 측정 - 코어당 초당 처리 메시지 수 (msgs/sec/core)
+ * <p>
+ * 일반 테스트와 분리된 benchmark 소스 셋으로 실행합니다: {@code gradle chatFilterBenchmark}
+ * <p>
+ * 스레드 1개로 한 코어의 처리량을 재고, 코어 수만큼 스레드를 띄워 전체 처리량을 코어 수로 나눈 값도 함께 출력합니다. 두 값의
+ * 차이가 크면 공유 자원(메모리 대역폭, GC) 경합이 있다는 뜻입니다.
+ */
+public class ChatFilterBenchmark {
+
+    private static final List<String> WORDS = List.of("시발", "씨발", "ㅅㅂ", "병신", "ㅂㅅ", "개새끼", "좆",
+        "fuck", "shit", "bitch");
+    private static final List<String> ALLOWED = List.of("시발점", "시발역", "shitake");
+    private static final int MESSAGES = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 50;
+
+    public static void main(String[] args) throws Exception {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(WORDS);
+        AhoCorasickMatcher allowed = AhoCorasickMatcher.of(ALLOWED);
+        List<String> messages = sampleMessages(MESSAGES);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        double single = measure(matcher, allowed, messages, 1);
+        double parallel = measure(matcher, allowed, messages, cores);
+
+        System.out.printf("[ChatFilter] 1 thread: %.0f msgs/sec/core%n", single);
+        System.out.printf("[ChatFilter] %d threads: %.0f msgs/sec (%.0f msgs/sec/core)%n",
+            cores, parallel, parallel / cores);
+    }
+
+    /**
+     * threads 개 스레드가 동시에 같은 메시지 묶음을 ROUNDS 번 마스킹 (워밍업 후 측정)
+     *
+     * @return 전체 초당 처리 메시지 수
+     */
+    private static double measure(AhoCorasickMatcher matcher, AhoCorasickMatcher allowed, List<String> messages,
+        int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> results = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                        run(matcher, allowed, messages);
+                    }
+                    ready.countDown();
+                    start.await();
+                    long masked = 0;
+                    for (int i = 0; i < ROUNDS; i++) {
+                        masked += run(matcher, allowed, messages);
+                    }
+                    return masked;
+                }));
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            long masked = 0;
+            for (Future<Long> result : results) {
+                masked += result.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            if (masked == 0) {
+                throw new IllegalStateException("마스킹된 메시지가 없음 - 샘플 구성 확인 필요");
+            }
+            return (double) threads * ROUNDS * messages.size() / (elapsed / 1_000_000_000.0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long run(AhoCorasickMatcher matcher, AhoCorasickMatcher allowed, List<String> messages) {
+        long masked = 0;
+        for (String message : messages) {
+            if (matcher.mask(message, '*', allowed) != message) {
+                masked++;
+            }
+        }
+        return masked;
+    }
+
+    private static List<String> sampleMessages(int count) {
+        String[] fragments = {"좀비", "3번", "의심돼요", "투표", "하자", "경찰", "누구", "?", "ㅋㅋㅋ",
+            "살려줘", "병신", "vote", "zombie", "fuck", "아니야", "밤에", "의사", "시발점", "shitake"};
+        Random random = new Random(42);
+        List<String> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 3 + random.nextInt(8);
+            for (int j = 0; j < len; j++) {
+                sb.append(fragments[random.nextInt(fragments.length)]).append(' ');
+            }
+            messages.add(sb.toString());
+        }
+        return messages;
+    }
+}
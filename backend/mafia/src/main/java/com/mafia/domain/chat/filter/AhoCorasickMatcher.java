@@ -0,0 +1,233 @@
+package com.mafia.domain.chat.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 매칭용 Aho-Corasick 오토마톤 (불변 객체)
+ * <p>
+ * 생성 시점에 모든 전이를 정렬된 배열로 압축하므로, 매칭 중에는 객체 할당 없이 입력 길이에 비례한 시간으로 동작합니다.
+ * 사전 교체는 새 인스턴스를 만들어 참조만 바꾸는 방식으로 처리합니다.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final AhoCorasickMatcher EMPTY = new AhoCorasickMatcher(List.of());
+
+    // 노드별 전이 테이블: keys[node] 는 정렬된 문자 배열, targets[node] 는 대응하는 자식 노드 번호
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    // 해당 노드에서 끝나는 패턴 중 가장 긴 길이 (fail 링크를 따라 전파된 값 포함, 없으면 0)
+    private final int[] output;
+    private final int patternCount;
+
+    private AhoCorasickMatcher(Collection<String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> depthOut = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        depthOut.add(0);
+
+        int count = 0;
+        for (String raw : patterns) {
+            if (raw == null || raw.isBlank()) {
+                continue;
+            }
+            String pattern = raw.strip();
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = normalize(pattern.charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    depthOut.add(0);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            depthOut.set(node, Math.max(depthOut.get(node), pattern.length()));
+            count++;
+        }
+
+        int size = trie.size();
+        this.keys = new char[size][];
+        this.targets = new int[size][];
+        this.fail = new int[size];
+        this.output = new int[size];
+        this.patternCount = count;
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> children = trie.get(node);
+            char[] k = new char[children.size()];
+            int[] t = new int[children.size()];
+            int idx = 0;
+            for (Map.Entry<Character, Integer> entry : children.entrySet()) {
+                k[idx] = entry.getKey();
+                t[idx] = entry.getValue();
+                idx++;
+            }
+            keys[node] = k;
+            targets[node] = t;
+            output[node] = depthOut.get(node);
+        }
+
+        // BFS 로 fail 링크 계산
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < keys[node].length; i++) {
+                char c = keys[node][i];
+                int child = targets[node][i];
+                int f = fail[node];
+                int next;
+                while ((next = child(f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = (next >= 0 && next != child) ? next : 0;
+                output[child] = Math.max(output[child], output[fail[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 금칙어 목록으로 오토마톤 생성
+     */
+    public static AhoCorasickMatcher of(Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        return new AhoCorasickMatcher(patterns);
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    /**
+     * 금칙어가 하나라도 포함되어 있는지 확인
+     */
+    public boolean containsAny(CharSequence text) {
+        if (patternCount == 0 || text == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, normalize(text.charAt(i)));
+            if (output[state] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 매칭된 구간을 mask 문자로 치환
+     *
+     * @return 매칭이 없으면 입력 문자열 그대로 (새 객체를 만들지 않음)
+     */
+    public String mask(String text, char mask) {
+        return mask(text, mask, EMPTY);
+    }
+
+    /**
+     * 매칭된 구간을 mask 문자로 치환 - allowed 에 등록된 단어 안에 들어 있는 매칭은 그대로 둠 (예: "시발점" 안의 "시발")
+     *
+     * @return 매칭이 없으면 입력 문자열 그대로 (새 객체를 만들지 않음)
+     */
+    public String mask(String text, char mask, AhoCorasickMatcher allowed) {
+        if (patternCount == 0 || text == null) {
+            return text;
+        }
+        char[] masked = null;
+        boolean[] covered = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, normalize(text.charAt(i)));
+            int len = output[state];
+            if (len > 0) {
+                if (allowed.patternCount > 0) {
+                    if (covered == null) {
+                        covered = allowed.cover(text);  // 금칙어가 처음 나왔을 때만 계산
+                    }
+                    if (isCovered(covered, i - len + 1, i)) {
+                        continue;
+                    }
+                }
+                if (masked == null) {
+                    masked = text.toCharArray();
+                }
+                for (int j = i - len + 1; j <= i; j++) {
+                    masked[j] = mask;
+                }
+            }
+        }
+        return masked == null ? text : new String(masked);
+    }
+
+    /**
+     * 이 오토마톤의 패턴이 덮는 위치 표시
+     */
+    private boolean[] cover(String text) {
+        boolean[] covered = new boolean[text.length()];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, normalize(text.charAt(i)));
+            for (int j = i - output[state] + 1; j <= i; j++) {
+                covered[j] = true;
+            }
+        }
+        return covered;
+    }
+
+    private static boolean isCovered(boolean[] covered, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            if (!covered[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int step(int state, char c) {
+        int next;
+        while ((next = child(state, c)) < 0 && state != 0) {
+            state = fail[state];
+        }
+        return Math.max(next, 0);
+    }
+
+    private int child(int node, char c) {
+        char[] k = keys[node];
+        int lo = 0;
+        int hi = k.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (k[mid] < c) {
+                lo = mid + 1;
+            } else if (k[mid] > c) {
+                hi = mid - 1;
+            } else {
+                return targets[node][mid];
+            }
+        }
+        return -1;
+    }
+
+    private static char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+}
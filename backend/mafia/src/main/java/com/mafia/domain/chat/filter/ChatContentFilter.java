@@ -0,0 +1,126 @@
+package com.mafia.domain.chat.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 금칙어 필터
+ * <p>
+ * 기본 사전(classpath)과 Redis 에 등록된 추가 금칙어를 합쳐 {@link AhoCorasickMatcher} 를 만들고, 주기적으로 다시 읽어
+ * 변경이 있을 때만 오토마톤을 교체합니다. 교체는 volatile 참조 한 번으로 끝나므로 메시지 전송 쪽은 락을 잡지 않습니다.
+ * <p>
+ * 짧은 금칙어("ㅂㅅ", "좆", "shit" 등)는 평범한 단어 안에도 들어 있으므로, 사전에서 "!" 로 시작하는 줄(또는 Redis Set
+ * "chat:filter:allowed")을 허용 단어로 읽어 그 안에 들어 있는 매칭은 마스킹하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatContentFilter {
+
+    public static final String EXTRA_WORDS_KEY = "chat:filter:words"; // 운영 중 추가되는 금칙어 (Redis Set)
+    public static final String EXTRA_ALLOWED_KEY = "chat:filter:allowed"; // 운영 중 추가되는 허용 단어 (Redis Set)
+    private static final String ALLOWED_PREFIX = "!";
+    private static final char MASK = '*';
+
+    private final StringRedisTemplate redisTemplate;
+    private final Resource dictionary;
+
+    private volatile Filter current = new Filter(Set.of(), Set.of(), AhoCorasickMatcher.empty(),
+        AhoCorasickMatcher.empty());
+
+    public ChatContentFilter(StringRedisTemplate redisTemplate,
+        @Value("${chat.filter.dictionary:classpath:chat/forbidden-words.txt}") Resource dictionary) {
+        this.redisTemplate = redisTemplate;
+        this.dictionary = dictionary;
+        reload();
+    }
+
+    /**
+     * 금칙어를 마스킹한 메시지 반환 (금칙어가 없으면 원본 그대로)
+     */
+    public String filter(String content) {
+        Filter filter = current;
+        return filter.matcher.mask(content, MASK, filter.allowed);
+    }
+
+    /**
+     * 사전 재적재 - 내용이 바뀐 경우에만 오토마톤을 새로 만들어 교체
+     */
+    @Scheduled(fixedDelayString = "${chat.filter.reload-interval-ms:60000}")
+    public void reload() {
+        Set<String> words = new TreeSet<>();
+        Set<String> allowed = new TreeSet<>();
+        readDictionary(words, allowed);
+        words.addAll(readSet(EXTRA_WORDS_KEY));
+        allowed.addAll(readSet(EXTRA_ALLOWED_KEY));
+
+        Filter loaded = current;
+        if (words.equals(loaded.words) && allowed.equals(loaded.allowedWords)) {
+            return;
+        }
+        current = new Filter(words, allowed, AhoCorasickMatcher.of(words), AhoCorasickMatcher.of(allowed));
+        log.info("채팅 금칙어 사전 갱신 - 단어 수: {}, 허용 단어 수: {}", words.size(), allowed.size());
+    }
+
+    private void readDictionary(Set<String> words, Set<String> allowed) {
+        if (dictionary == null || !dictionary.exists()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith(ALLOWED_PREFIX)) {
+                    allowed.add(line.substring(ALLOWED_PREFIX.length()).strip());
+                } else {
+                    words.add(line);
+                }
+            }
+        } catch (IOException e) {
+            log.error("금칙어 사전 읽기 실패: {}", e.getMessage());
+        }
+    }
+
+    private Set<String> readSet(String key) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            return members == null ? Set.of() : members;
+        } catch (Exception e) {
+            // Redis 장애 시에도 기본 사전으로 계속 동작
+            log.warn("Redis 금칙어 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    /**
+     * 금칙어와 허용 단어 오토마톤 묶음 (함께 교체해야 하므로 한 참조로 관리)
+     */
+    private static final class Filter {
+
+        private final Set<String> words;
+        private final Set<String> allowedWords;
+        private final AhoCorasickMatcher matcher;
+        private final AhoCorasickMatcher allowed;
+
+        private Filter(Set<String> words, Set<String> allowedWords, AhoCorasickMatcher matcher,
+            AhoCorasickMatcher allowed) {
+            this.words = words;
+            this.allowedWords = allowedWords;
+            this.matcher = matcher;
+            this.allowed = allowed;
+        }
+    }
+}
@@ -3,14 +3,16 @@ package com.mafia.domain.chat.model;
 import java.security.Principal;
 import lombok.Getter;
 
-// STOMP에서 사용할 단순한 Principal 구현체
+// STOMP에서 사용할 단순한 Principal 구현체 (핸드셰이크 때 한 번 만들어 세션 동안 그대로 사용 - 불변)
 @Getter
-public class StompPrincipal implements Principal {
+public final class StompPrincipal implements Principal {
 
     private final Long memberId;
+    private final long expiresAt;  // 액세스 토큰 만료 시각 (epoch ms)
 
-    public StompPrincipal(Long memberId) {
+    public StompPrincipal(Long memberId, long expiresAt) {
         this.memberId = memberId;
+        this.expiresAt = expiresAt;
     }
 
     @Override
@@ -19,4 +21,7 @@ public class StompPrincipal implements Principal {
         return String.valueOf(memberId); // 또는 원한다면 nickname 등 다른 값을 반환할 수 있음
     }
 
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
 }
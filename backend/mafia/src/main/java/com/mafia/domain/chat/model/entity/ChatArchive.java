@@ -0,0 +1,58 @@
+package com.mafia.domain.chat.model.entity;
+
+import com.mafia.domain.chat.model.enumerate.ChatType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 게임의 채팅 기록 (Redis 리스트에서 이관)
+ * <p>
+ * 게임 ID 는 방 ID 와 같아 같은 방의 다음 게임에서도 쓰이므로, 한 판은 (gameId, endedAt) 으로 구분합니다. 저장은
+ * ChatArchiveService 에서 JDBC 배치로만 수행하므로 JPA 는 조회와 스키마 생성에만 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_archive", uniqueConstraints = {
+    // 한 판의 같은 채널, 같은 순번은 한 번만 저장 (이관 재시도 시 중복 방지, 조회 인덱스 겸용)
+    @UniqueConstraint(name = "uk_chat_archive_game", columnNames = {"game_id", "ended_at", "chat_type", "seq"})
+}, indexes = {
+    @Index(name = "idx_chat_archive_archived_at", columnList = "archived_at")
+})
+public class ChatArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveId;
+
+    @Column(nullable = false)
+    private Long gameId;
+
+    @Column(nullable = false)
+    private Long endedAt; // 게임 종료 요청 시각 (epoch ms)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChatType chatType;
+
+    @Column(nullable = false)
+    private Integer seq; // Redis 리스트 내 순서
+
+    @Column(length = 1000)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
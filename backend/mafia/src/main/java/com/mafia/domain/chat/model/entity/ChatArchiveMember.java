@@ -0,0 +1,46 @@
+package com.mafia.domain.chat.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이관된 채팅을 조회할 수 있는 게임 참가자 목록 (한 판 = gameId + endedAt)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_archive_member", uniqueConstraints = {
+    // 같은 종료 요청을 다시 이관해도(정리 단계 재시도) 참가자가 중복 저장되지 않도록
+    @UniqueConstraint(name = "uk_chat_archive_member", columnNames = {"game_id", "ended_at", "member_id"})
+}, indexes = {
+    @Index(name = "idx_chat_archive_member", columnList = "game_id, member_id, ended_at"),
+    @Index(name = "idx_chat_archive_member_archived_at", columnList = "archived_at")
+})
+public class ChatArchiveMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long gameId;
+
+    @Column(nullable = false)
+    private Long endedAt; // 게임 종료 요청 시각 (epoch ms)
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,20 @@
+package com.mafia.domain.chat.repository;
+
+import com.mafia.domain.chat.model.entity.ChatArchiveMember;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatArchiveMemberRepository extends JpaRepository<ChatArchiveMember, Long> {
+
+    Optional<ChatArchiveMember> findFirstByGameIdAndMemberIdOrderByEndedAtDesc(Long gameId, Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM ChatArchiveMember m WHERE m.archivedAt < :threshold")
+    int deleteArchivedBefore(@Param("threshold") LocalDateTime threshold);
+}
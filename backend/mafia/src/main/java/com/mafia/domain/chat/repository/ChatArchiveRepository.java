@@ -0,0 +1,23 @@
+package com.mafia.domain.chat.repository;
+
+import com.mafia.domain.chat.model.entity.ChatArchive;
+import com.mafia.domain.chat.model.enumerate.ChatType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatArchiveRepository extends JpaRepository<ChatArchive, Long> {
+
+    List<ChatArchive> findByGameIdAndEndedAtAndChatTypeOrderBySeqDesc(Long gameId, Long endedAt,
+        ChatType chatType, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ChatArchive c WHERE c.archivedAt < :threshold")
+    int deleteArchivedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -4,11 +4,15 @@ package com.mafia.domain.chat.repository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.chat.model.dto.ChatMessage;
+import com.mafia.domain.chat.model.enumerate.ChatType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,6 +20,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ChatRepository {
 
+    private static final Duration ARCHIVED_TTL = Duration.ofDays(1);
+
+    // KEYS: chat / ARGV: 읽은 개수, 읽은 마지막 메시지 -> 지운 개수, 그 사이 앞쪽이 잘려 확인할 수 없으면 -1
+    // 이관 중 같은 방에서 새 게임이 시작돼 뒤에 붙은 메시지는 남김
+    private static final RedisScript<Long> TRIM_ARCHIVED_SCRIPT = new DefaultRedisScript<>("""
+        local count = tonumber(ARGV[1])
+        if count == 0 then return 0 end
+        if redis.call('LINDEX', KEYS[1], count - 1) ~= ARGV[2] then return -1 end
+        redis.call('LTRIM', KEYS[1], count, -1)
+        return count
+        """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -41,6 +57,52 @@ public class ChatRepository {
         ListOperations<String, String> listOps = redisTemplate.opsForList();
         String redisKey = "game:" + roomId + ":" + chatType; // 채널별 키 구분
         List<String> messages = listOps.range(redisKey, -count, -1); // 최신 count개 메시지 가져오기
+        return parse(messages);
+    }
+
+    /**
+     * 특정 채팅 채널의 전체 메시지 원본 가져오기 (게임 종료 후 이관용 - 지울 때 {@link #trimArchived} 에 마지막 원본을 넘김)
+     */
+    public List<String> getAllRawMessages(long gameId, ChatType chatType) {
+        List<String> messages = redisTemplate.opsForList().range(getKey(gameId, chatType), 0, -1);
+        return messages == null ? List.of() : messages;
+    }
+
+    /**
+     * 이관한 메시지만 앞에서부터 삭제 - 읽은 마지막 메시지가 그 자리에 그대로 있을 때만 지움
+     *
+     * @return 지운 개수, 확인할 수 없어 남겨 두었으면 -1
+     */
+    public long trimArchived(long gameId, ChatType chatType, List<String> archived) {
+        if (archived.isEmpty()) {
+            return 0;
+        }
+        Long result = redisTemplate.execute(TRIM_ARCHIVED_SCRIPT, List.of(getKey(gameId, chatType)),
+            String.valueOf(archived.size()), archived.get(archived.size() - 1));
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * 이관 완료 표시 (1일) - 정리 단계 재시도로 같은 종료 요청이 다시 오면 새 게임의 채팅을 가져가지 않도록
+     */
+    public boolean markArchived(long gameId, long endedAt) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+            .setIfAbsent(getArchivedKey(gameId, endedAt), "1", ARCHIVED_TTL));
+    }
+
+    public boolean isArchived(long gameId, long endedAt) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getArchivedKey(gameId, endedAt)));
+    }
+
+    private String getArchivedKey(long gameId, long endedAt) {
+        return "game:" + gameId + ":chat-archived:" + endedAt;
+    }
+
+    private String getKey(long gameId, ChatType chatType) {
+        return "game:" + gameId + ":" + chatType;
+    }
+
+    public List<ChatMessage> parse(List<String> messages) {
         return messages.stream().map(json -> {
             try {
                 return objectMapper.readValue(json, ChatMessage.class);
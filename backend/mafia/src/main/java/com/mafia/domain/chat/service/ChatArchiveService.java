@@ -0,0 +1,187 @@
+package com.mafia.domain.chat.service;
+
+import com.mafia.domain.chat.model.dto.ChatMessage;
+import com.mafia.domain.chat.model.entity.ChatArchive;
+import com.mafia.domain.chat.model.entity.ChatArchiveMember;
+import com.mafia.domain.chat.model.enumerate.ChatType;
+import com.mafia.domain.chat.repository.ChatArchiveMemberRepository;
+import com.mafia.domain.chat.repository.ChatArchiveRepository;
+import com.mafia.domain.chat.repository.ChatRepository;
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.repository.GameRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게임 종료 채팅 이관 서비스
+ * <p>
+ * 게임이 끝나면 Redis 의 game:{id}:{type} 리스트를 MySQL 로 배치 INSERT 한 뒤 읽은 메시지만 리스트에서 잘라 냅니다(그 사이
+ * 같은 방에서 새 게임이 시작돼 붙은 메시지는 남김). 같은 방에서 이어지는 게임과 섞이지 않도록 종료 요청 시각(endedAt)을 함께
+ * 저장하고 조회, 참가자 확인도 그 한 판 기준으로 합니다. 정리 단계가 재시도되어 같은 종료 요청이 다시 와도 (gameId, endedAt)
+ * 기준 고유 키로 중복 행은 건너뛰고, 이관을 마친 요청은 Redis 표시로 다시 실행하지 않습니다. 이관은 전용 스레드 풀에서 비동기로
+ * 실행되며, 보관 기간이 지난 기록은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Service
+public class ChatArchiveService {
+
+    private static final String INSERT_MESSAGE_SQL =
+        "INSERT INTO chat_archive (game_id, ended_at, chat_type, seq, content, archived_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE seq = seq";  // 이미 이관된 행만 건너뜀 (다른 오류는 그대로 던짐)
+    private static final String INSERT_MEMBER_SQL =
+        "INSERT INTO chat_archive_member (game_id, ended_at, member_id, archived_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE member_id = member_id";
+    private static final int BATCH_SIZE = 500;
+
+    private final ChatRepository chatRepository;
+    private final ChatArchiveRepository chatArchiveRepository;
+    private final ChatArchiveMemberRepository chatArchiveMemberRepository;
+    private final GameRepository gameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int retentionDays;
+
+    public ChatArchiveService(ChatRepository chatRepository,
+        ChatArchiveRepository chatArchiveRepository,
+        ChatArchiveMemberRepository chatArchiveMemberRepository,
+        GameRepository gameRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Qualifier("chatArchiveExecutor") Executor executor,
+        @Value("${chat.archive.retention-days:7}") int retentionDays) {
+        this.chatRepository = chatRepository;
+        this.chatArchiveRepository = chatArchiveRepository;
+        this.chatArchiveMemberRepository = chatArchiveMemberRepository;
+        this.gameRepository = gameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 게임 종료 시 참가자 목록만 동기로 확보하고 (게임 객체가 곧 삭제되므로) 나머지는 비동기로 이관
+     */
+    @EventListener
+    public void onGameEnd(GameEndEvent event) {
+        long gameId = event.getGameId();
+        long endedAt = event.getRequestedAt();
+        List<Long> memberIds = gameRepository.findById(gameId)
+            .map(game -> List.copyOf(game.getPlayers().keySet()))
+            .orElse(List.of());
+
+        executor.execute(() -> {
+            try {
+                archive(gameId, endedAt, memberIds);
+            } catch (Exception e) {
+                // 실패 시 Redis 키를 지우지 않으므로 데이터는 남아 있음
+                log.error("[ChatArchive] 게임 {} 채팅 이관 실패: {}", gameId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Redis 채팅 리스트를 MySQL 로 이관 후 키 삭제
+     *
+     * @param endedAt 게임 종료 요청 시각 - 같은 방의 다른 게임 기록과 구분
+     */
+    public void archive(long gameId, long endedAt, List<Long> memberIds) {
+        if (chatRepository.isArchived(gameId, endedAt)) {
+            log.info("[ChatArchive] 게임 {} (종료 {}) 이미 이관됨 - 건너뜀", gameId, endedAt);
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<ChatType, List<String>> read = new EnumMap<>(ChatType.class);
+        List<Object[]> rows = new ArrayList<>();
+
+        for (ChatType type : ChatType.values()) {
+            if (type == ChatType.ROOM) continue; // 방 채팅은 방이 유지되는 동안 계속 사용
+            List<String> raw = chatRepository.getAllRawMessages(gameId, type);
+            List<ChatMessage> messages = chatRepository.parse(raw);
+            for (int seq = 0; seq < messages.size(); seq++) {
+                rows.add(new Object[]{gameId, endedAt, type.name(), seq, messages.get(seq).getContent(), now});
+            }
+            read.put(type, raw);
+        }
+
+        List<Object[]> members = memberIds.stream()
+            .map(memberId -> new Object[]{gameId, endedAt, memberId, now})
+            .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            batchInsert(INSERT_MEMBER_SQL, members);
+            batchInsert(INSERT_MESSAGE_SQL, rows);
+        });
+
+        // 커밋 이후에만 읽은 만큼 Redis 에서 해제
+        read.forEach((type, raw) -> {
+            if (chatRepository.trimArchived(gameId, type, raw) < 0) {
+                log.warn("[ChatArchive] 게임 {} {} 채팅이 이관 중 바뀌어 Redis 에 남겨 둠", gameId, type);
+            }
+        });
+        chatRepository.markArchived(gameId, endedAt);
+        log.info("[ChatArchive] 게임 {} 채팅 {}건 이관 완료", gameId, rows.size());
+    }
+
+    /**
+     * 이관된 채팅 조회 - 이 방에서 내가 참가한 가장 최근 게임의 기록만 반환
+     *
+     * @return 접근 권한이 없으면 null
+     */
+    public List<ChatMessage> getArchivedMessages(long gameId, ChatType type, int count,
+        Long memberId) {
+        ChatArchiveMember participation = chatArchiveMemberRepository
+            .findFirstByGameIdAndMemberIdOrderByEndedAtDesc(gameId, memberId)
+            .orElse(null);
+        if (participation == null) {
+            return null;
+        }
+
+        List<ChatArchive> archived = chatArchiveRepository.findByGameIdAndEndedAtAndChatTypeOrderBySeqDesc(
+            gameId, participation.getEndedAt(), type, PageRequest.of(0, Math.max(count, 1)));
+
+        List<ChatMessage> result = new ArrayList<>(archived.size());
+        for (int i = archived.size() - 1; i >= 0; i--) { // Redis 조회와 동일하게 오래된 순으로 반환
+            ChatArchive chat = archived.get(i);
+            ChatMessage message = new ChatMessage();
+            message.setGameId(chat.getGameId());
+            message.setChatType(chat.getChatType());
+            message.setContent(chat.getContent());
+            result.add(message);
+        }
+        return result;
+    }
+
+    /**
+     * 보관 기간이 지난 채팅 기록 삭제 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "${chat.archive.purge-cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+            chatArchiveRepository.deleteArchivedBefore(threshold)
+                + chatArchiveMemberRepository.deleteArchivedBefore(threshold));
+        log.info("[ChatArchive] 보관 기간 만료 기록 {}건 삭제", deleted);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_PERMISSIO
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.chat.filter.ChatContentFilter;
 import com.mafia.domain.chat.model.dto.ChatMessage;
 import com.mafia.domain.chat.model.dto.GetMessageRequest;
 import com.mafia.domain.chat.model.enumerate.ChatType;
@@ -46,6 +47,10 @@ public class ChatService {
 
     private final MemberService memberService; // 사용자 정보 조회
 
+    private final ChatContentFilter chatContentFilter; // 금칙어 필터
+
+    private final ChatArchiveService chatArchiveService; // 종료된 게임 채팅 조회
+
     private final ObjectMapper objectMapper;
 
     /**
@@ -100,11 +105,14 @@ public class ChatService {
     public void sendMessage(ChatMessage message, Long memberId) throws JsonProcessingException {
         long gameId = message.getGameId();
         ChatType type = message.getChatType();
-        String content = message.getContent();
         String topic;
 
         if(type == ChatType.ROOM) topic = getvalidRoomTopic(gameId, memberId); // Room
         else topic = getvalidGameTopic(gameId, type, memberId); //Game(day, night, dead)
+
+        // 저장 및 전송 전에 금칙어 마스킹
+        String content = chatContentFilter.filter(message.getContent());
+        message.setContent(content);
         chatRepository.saveMessage(message);
 
         MemberResponse memberInfo = memberService.getMemberInfo(memberId);
@@ -137,6 +145,12 @@ public class ChatService {
         long gameId = req.getGameId();
         ChatType type = req.getChatType();
         String topic;
+        if(type != ChatType.ROOM && !gameService.existsById(gameId)) {
+            // 종료된 게임은 MySQL 로 이관된 기록에서 조회
+            List<ChatMessage> archived = chatArchiveService.getArchivedMessages(gameId, type, count, memberId);
+            if (archived == null) throw new BusinessException(NOT_PERMISSION_CHAT);
+            return archived;
+        }
         if(type == ChatType.ROOM) topic = getvalidRoomTopic(gameId, memberId); // Room
         else topic = getvalidGameTopic(gameId, type, memberId); //Game(day, night, dead)
         return chatRepository.getRecentMessages(String.valueOf(gameId), type.toString(), count);
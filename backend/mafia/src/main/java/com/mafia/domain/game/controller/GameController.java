@@ -2,6 +2,7 @@ package com.mafia.domain.game.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.mafia.domain.game.model.dto.EndGameInfoDto;
+import com.mafia.domain.game.model.dto.GameEventsResponse;
 import com.mafia.domain.game.model.dto.GameInfoDto;
 import com.mafia.domain.game.model.game.GamePhase;
 import com.mafia.domain.game.service.GameService;
@@ -10,12 +11,16 @@ import com.mafia.global.common.model.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -49,9 +54,29 @@ public class GameController {
     @GetMapping("/{roomId}")
     @Operation(summary = "Get game", description = "방 ID로 게임 정보를 가져옵니다.")
     public ResponseEntity<BaseResponse<GameInfoDto>> getGame(@AuthenticationPrincipal AuthenticatedUser detail,
-        @PathVariable Long roomId) {
-        GameInfoDto gameInfo = gameService.getGameInfo(detail.getMemberId(), roomId);
-        return ResponseEntity.ok(new BaseResponse<>(gameInfo));
+        @PathVariable Long roomId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long memberId = detail.getMemberId();
+        // 상태 순번이 그대로면 게임을 읽지 않고 304 (ETag 에 회원 ID 를 넣어 내 정보가 섞이지 않게 함)
+        long version = gameService.getGameInfoVersion(roomId);
+        String eTag = "\"" + roomId + "-" + version + "-" + memberId + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        GameInfoDto gameInfo = gameService.getGameInfo(memberId, roomId, version);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(new BaseResponse<>(gameInfo));
+    }
+
+    @GetMapping("/{roomId}/events")
+    @Operation(summary = "Get missed events", description = "마지막으로 받은 순번(after) 이후의 상태 변경분을 가져옵니다. "
+        + "놓친 변경분이 보관 범위를 넘었으면 전체 상태(snapshot)를 함께 반환합니다.")
+    public ResponseEntity<BaseResponse<GameEventsResponse>> getEvents(
+        @AuthenticationPrincipal AuthenticatedUser detail, @PathVariable Long roomId, @RequestParam long after) {
+        GameEventsResponse events = gameService.getEventsAfter(detail.getMemberId(), roomId, after);
+        return ResponseEntity.ok(new BaseResponse<>(events));
     }
 
     @GetMapping("/{roomId}/ending")
@@ -63,8 +88,7 @@ public class GameController {
 
     @DeleteMapping("/{roomId}")
     @Operation(summary = "Delete game", description = "방 ID로 게임을 삭제합니다.")
-    public ResponseEntity<BaseResponse<String>> deleteGame(@PathVariable Long roomId)
-        throws JsonProcessingException {
+    public ResponseEntity<BaseResponse<String>> deleteGame(@PathVariable Long roomId) {
         gameService.deleteGame(roomId, gameVersion);
         return ResponseEntity.ok(new BaseResponse<>("Room " + roomId + " deleted."));
     }
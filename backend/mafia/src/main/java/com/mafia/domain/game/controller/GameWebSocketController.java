@@ -0,0 +1,117 @@
+package com.mafia.domain.game.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.mafia.domain.chat.model.StompPrincipal;
+import com.mafia.domain.game.model.dto.GameEventsResponse;
+import com.mafia.domain.game.model.game.GamePhase;
+import com.mafia.domain.game.model.webSocket.GameMessages;
+import com.mafia.domain.game.model.webSocket.GameMessages.ActionResult;
+import com.mafia.domain.game.service.GameService;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.model.dto.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+/**
+ * WebSocket 기반 게임 행동 처리 (투표, 최종 투표, 토론 단축, 밤 타겟)
+ * <p>
+ * GameController 의 REST API 와 같은 동작을 이미 열려 있는 STOMP 연결로 처리합니다. 결과와 오류는 요청한 세션에게만 전송합니다
+ * (/user/queue/game/action).
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class GameWebSocketController {
+
+    private static final String ACTION_DESTINATION = "/queue/game/action";
+
+    private final GameService gameService;
+
+    /**
+     * 투표 (투표 시간에만 가능)
+     */
+    @MessageMapping("/game/{roomId}/vote")
+    @SendToUser(destinations = ACTION_DESTINATION, broadcast = false)
+    public BaseResponse<ActionResult> handleVote(
+        @DestinationVariable Long roomId,
+        @Payload GameMessages.TargetMessage message,
+        @AuthenticationPrincipal StompPrincipal detail
+    ) {
+        long memberId = Long.parseLong(detail.getName());
+
+        gameService.validatePhase(roomId, GamePhase.DAY_VOTE);
+        gameService.vote(roomId, memberId, message.getTargetNo());
+        return new BaseResponse<>(new ActionResult("vote",
+            "Player " + memberId + " voted for " + message.getTargetNo() + " in Room " + roomId + "."));
+    }
+
+    /**
+     * 최종 찬반 투표 (마지막 투표 시간에만 가능)
+     */
+    @MessageMapping("/game/{roomId}/finalvote")
+    @SendToUser(destinations = ACTION_DESTINATION, broadcast = false)
+    public BaseResponse<ActionResult> handleFinalVote(@DestinationVariable Long roomId) {
+        gameService.validatePhase(roomId, GamePhase.DAY_FINAL_VOTE);
+        gameService.finalVote(roomId);
+        return new BaseResponse<>(new ActionResult("finalvote", "난 찬성!"));
+    }
+
+    /**
+     * 토론 시간 단축 (20초, 낮 토론 시간에만 가능)
+     */
+    @MessageMapping("/game/{roomId}/skip")
+    @SendToUser(destinations = ACTION_DESTINATION, broadcast = false)
+    public BaseResponse<ActionResult> handleSkip(@DestinationVariable Long roomId) {
+        gameService.validatePhase(roomId, GamePhase.DAY_DISCUSSION);
+        gameService.skipDiscussion(roomId, 20);
+        return new BaseResponse<>(new ActionResult("skip", "Vote skipped in Room " + roomId + "."));
+    }
+
+    /**
+     * 밤 타겟 지정 (밤 페이즈에만 가능)
+     */
+    @MessageMapping("/game/{roomId}/target")
+    @SendToUser(destinations = ACTION_DESTINATION, broadcast = false)
+    public BaseResponse<ActionResult> handleTarget(
+        @DestinationVariable Long roomId,
+        @Payload GameMessages.TargetMessage message,
+        @AuthenticationPrincipal StompPrincipal detail
+    ) throws JsonProcessingException {
+        long memberId = Long.parseLong(detail.getName());
+
+        gameService.validatePhase(roomId, GamePhase.NIGHT_ACTION);
+        String result = gameService.setTarget(roomId, memberId, message.getTargetNo());
+        return new BaseResponse<>(new ActionResult("target", result));
+    }
+
+    /**
+     * 재연결 후 놓친 상태 변경분 요청 - 요청한 세션에게만 전송 (/user/queue/game/resume)
+     */
+    @MessageMapping("/game/{roomId}/resume")
+    @SendToUser(destinations = "/queue/game/resume", broadcast = false)
+    public BaseResponse<GameEventsResponse> handleResume(
+        @DestinationVariable Long roomId,
+        @Payload GameMessages.ResumeMessage message,
+        @AuthenticationPrincipal StompPrincipal detail
+    ) {
+        long memberId = Long.parseLong(detail.getName());
+        return new BaseResponse<>(gameService.getEventsAfter(memberId, roomId, message.getAfter()));
+    }
+
+    /**
+     * 게임 행동 실패 - REST 와 같은 오류 코드를 요청한 세션에게만 전송
+     */
+    @MessageExceptionHandler(BusinessException.class)
+    @SendToUser(destinations = ACTION_DESTINATION, broadcast = false)
+    public BaseResponse<Void> handleBusinessException(BusinessException e) {
+        log.debug("게임 행동 실패: {}", e.getMessage());
+        return new BaseResponse<>(e.getBaseResponseStatus());
+    }
+}
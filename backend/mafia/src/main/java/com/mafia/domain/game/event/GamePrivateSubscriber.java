@@ -0,0 +1,56 @@
+package com.mafia.domain.game.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.PrivateGameMessage;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플레이어 개인 메시지 수신 - 이 노드에 연결된 플레이어에게만 /user/queue/game 으로 전달
+ * <p>
+ * 직업별 비공개 정보(좀비 타겟, 조사 결과, 치료 결과)를 공용 토픽에 뿌리지 않고 받을 사람의 세션에만 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GamePrivateSubscriber implements MessageListener {
+
+    public static final String PRIVATE_DESTINATION = "/queue/game";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(GamePublisher.PRIVATE_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PrivateGameMessage privateMessage = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), PrivateGameMessage.class);
+            for (Long memberId : privateMessage.getMemberIds()) {
+                String user = String.valueOf(memberId);
+                if (simpUserRegistry.getUser(user) != null) {  // 다른 노드에 연결된 플레이어는 그 노드가 전달
+                    messagingTemplate.convertAndSendToUser(user, PRIVATE_DESTINATION, privateMessage.getMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("게임 개인 메시지 파싱 실패: {}", e.getMessage());
+        }
+    }
+}
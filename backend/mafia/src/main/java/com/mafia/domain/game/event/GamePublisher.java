@@ -1,18 +1,38 @@
 package com.mafia.domain.game.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.PrivateGameMessage;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class GamePublisher {
 
+    public static final String PRIVATE_CHANNEL = "game-private";
+
     private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
 
-    public GamePublisher(StringRedisTemplate redisTemplate) {
+    public GamePublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
         this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
     }
 
     public void publish(String topic, String message) {
         redisTemplate.convertAndSend(topic, message);
     }
+
+    /**
+     * 지정한 플레이어에게만 전송 (/user/queue/game) - 모든 노드가 받아 자기 노드에 연결된 플레이어에게만 전달
+     */
+    public void publishToPlayers(Collection<Long> memberIds, String message) throws JsonProcessingException {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.convertAndSend(PRIVATE_CHANNEL,
+            objectMapper.writeValueAsString(new PrivateGameMessage(List.copyOf(memberIds), message)));
+    }
 }
@@ -1,5 +1,6 @@
 package com.mafia.domain.game.event;
 
+import com.mafia.domain.game.service.GameInfoCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
@@ -10,10 +11,14 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class GameSubscriber implements MessageListener {
 
+    private static final String SEQ_FIELD = "\"seq\":";
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final GameInfoCache gameInfoCache;
 
-    public GameSubscriber(SimpMessagingTemplate messagingTemplate) {
+    public GameSubscriber(SimpMessagingTemplate messagingTemplate, GameInfoCache gameInfoCache) {
         this.messagingTemplate = messagingTemplate;
+        this.gameInfoCache = gameInfoCache;
     }
 
     @Override
@@ -21,9 +26,38 @@ public class GameSubscriber implements MessageListener {
         String msg = new String(message.getBody());
         String channel = new String(pattern);
 
+        // 변경분/타이머에 실린 상태 순번 기록 (게임 정보 조건부 요청 판단용)
+        recordSequence(channel, msg);
+
         // WebSocket을 통해 클라이언트에게 메시지 전달
         messagingTemplate.convertAndSend("/topic/" + channel, msg);
         //log.info("📩 Redis Message Send: channel={}, message={}", channel, msg);
     }
-}
 
+    /**
+     * game-{id}-system 메시지의 seq 값만 찾아 읽음 (JSON 전체를 파싱하지 않음)
+     */
+    private void recordSequence(String channel, String msg) {
+        if (!channel.startsWith("game-") || !channel.endsWith("-system")) {
+            return;
+        }
+        int index = msg.indexOf(SEQ_FIELD);
+        if (index < 0) {
+            return;
+        }
+        int start = index + SEQ_FIELD.length();
+        int end = start;
+        while (end < msg.length() && Character.isDigit(msg.charAt(end))) {
+            end++;
+        }
+        if (end == start) {
+            return;
+        }
+        try {
+            long gameId = Long.parseLong(channel.substring("game-".length(), channel.length() - "-system".length()));
+            gameInfoCache.onSystemMessage(gameId, Long.parseLong(msg.substring(start, end)));
+        } catch (NumberFormatException e) {
+            log.debug("게임 상태 순번 파싱 실패: channel={}", channel);
+        }
+    }
+}
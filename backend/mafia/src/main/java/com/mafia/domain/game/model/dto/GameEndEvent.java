@@ -7,4 +7,5 @@ import lombok.Getter;
 @Getter
 public class GameEndEvent {
     private final Long gameId;
+    private final long requestedAt; // 종료 요청 시각 (같은 방에서 이어지는 게임을 구분)
 }
@@ -0,0 +1,30 @@
+package com.mafia.domain.game.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.mafia.domain.game.model.game.GameEventType;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * game-{id}-system 으로 나가는 게임 상태 변경분
+ * <p>
+ * 전송 시 앞에 게임별 순번(seq)이 붙습니다. 이전 클라이언트를 위해 기존 메시지 키(death, voteresult 등)도 같은 JSON 최상위에
+ * 함께 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameEvent {
+
+    private final GameEventType type;
+    private final Map<String, Object> data;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Object> legacy;
+
+    @JsonAnyGetter
+    public Map<String, Object> legacyFields() {
+        return legacy;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mafia.domain.game.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 보관 중인 게임 변경분 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class GameEventRange {
+
+    private final long seq;             // 마지막 변경분 순번
+    private final boolean gap;          // 요청한 순번 이후 변경분 중 이미 밀려난 것이 있음 (전체 상태 필요)
+    private final List<String> events;  // 요청한 순번 이후 변경분 JSON (gap 이면 비어 있음)
+}
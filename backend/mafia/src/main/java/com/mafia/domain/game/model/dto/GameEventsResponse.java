@@ -0,0 +1,23 @@
+package com.mafia.domain.game.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GameEventsResponse {
+
+    @Schema(description = "마지막 변경분 순번", example = "42")
+    private final long seq;
+
+    @Schema(description = "요청한 순번 이후의 변경분 (순번 오름차순)")
+    private final List<JsonNode> events;
+
+    @Schema(description = "놓친 변경분이 보관 범위를 넘었을 때의 전체 상태 (seq 시점 이후 상태)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final GameInfoDto snapshot;
+}
@@ -1,10 +1,7 @@
 package com.mafia.domain.game.model.dto;
 
-import com.mafia.domain.game.model.game.Game;
-import com.mafia.domain.game.model.game.Player;
 import com.mafia.domain.game.model.game.GameStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,22 +24,11 @@ public class GameInfoDto {
     private final MyInfo myInfo; // 나만의 개인정보
 
 
-    public GameInfoDto(Long memberId, Game game){
-        this.gameId = game.getGameId();
-        playersInfo = new HashMap<>();
-        Map<Long, Player> players = game.getPlayers();
-        Map<Integer, Long> map = game.getMap_players();
-        for(int i = 1; i<= players.size(); i++){
-            if(map.get(i) == null) continue;
-            Player player = players.get(map.get(i));
-            PlayerInfo playerInfo = new PlayerInfo();
-            playerInfo.setPlayerNo(i);
-            playerInfo.setNickname(player.getNickName());
-            playerInfo.setDead(player.isDead());
-            playersInfo.put(i, playerInfo);
-        }
-        this.GAMESTATUS = game.getGameStatus();
-        this.myInfo = new MyInfo(game.getPlayerNoByMemberId(memberId), players.get(memberId));
+    GameInfoDto(long gameId, Map<Integer, PlayerInfo> playersInfo, GameStatus gameStatus, MyInfo myInfo) {
+        this.gameId = gameId;
+        this.playersInfo = playersInfo;
+        this.GAMESTATUS = gameStatus;
+        this.myInfo = myInfo;
     }
 }
 
@@ -0,0 +1,61 @@
+package com.mafia.domain.game.model.dto;
+
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameStatus;
+import com.mafia.domain.game.model.game.Player;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 게임 상태 순번 하나에 대한 게임 정보 - 공용 부분(플레이어 번호, 닉네임, 사망 여부, 상태)은 모든 플레이어가 공유하고
+ * 내 정보(MyInfo)는 요청마다 복사해 덧붙임
+ */
+@Getter
+public class GameInfoView {
+
+    private final long gameId;
+    private final long version;  // 게임 상태 변경분 순번
+    private final Map<Integer, PlayerInfo> playersInfo;
+    private final GameStatus gameStatus;
+    private final Map<Long, MyInfo> myInfos;  // memberId -> 내 정보 원본
+    private volatile long lastAccessAt;
+
+    public GameInfoView(Game game, long version) {
+        this.gameId = game.getGameId();
+        this.version = version;
+        this.gameStatus = game.getGameStatus();
+
+        Map<Integer, PlayerInfo> players = new HashMap<>();
+        Map<Long, MyInfo> infos = new HashMap<>();
+        // 참가자 번호 -> 회원 ID 맵을 한 번만 돌며 공용 정보와 플레이어별 내 정보를 함께 만듦
+        for (Map.Entry<Integer, Long> entry : game.getMap_players().entrySet()) {
+            Player player = game.getPlayers().get(entry.getValue());
+            if (player == null) {
+                continue;
+            }
+            PlayerInfo playerInfo = new PlayerInfo();
+            playerInfo.setPlayerNo(entry.getKey());
+            playerInfo.setNickname(player.getNickName());
+            playerInfo.setDead(player.isDead());
+            players.put(entry.getKey(), playerInfo);
+            infos.put(entry.getValue(), new MyInfo(entry.getKey(), player));
+        }
+        this.playersInfo = Collections.unmodifiableMap(players);
+        this.myInfos = infos;
+        this.lastAccessAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 회원별 게임 정보 (게임 참가자가 아니면 null)
+     */
+    public GameInfoDto toDto(Long memberId) {
+        lastAccessAt = System.currentTimeMillis();
+        MyInfo myInfo = myInfos.get(memberId);
+        if (myInfo == null) {
+            return null;
+        }
+        return new GameInfoDto(gameId, playersInfo, gameStatus, new MyInfo(myInfo));
+    }
+}
@@ -0,0 +1,22 @@
+package com.mafia.domain.game.model.dto;
+
+import com.mafia.domain.game.model.game.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * MySQL 저장 대기 중인 게임 로그 (Redis 대기열에 JSON 으로 보관)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameLogRecord {
+
+    private Long logId;
+    private Long gameId;
+    private Integer playerCnt;
+    private GameStatus winRole;
+    private String version;
+    private Long endedAt;  // 게임 종료 요청 시각 (ms)
+}
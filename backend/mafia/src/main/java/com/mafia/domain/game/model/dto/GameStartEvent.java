@@ -7,4 +7,9 @@ import lombok.Getter;
 @Getter
 public class GameStartEvent {
     private final Long gameId;
+    private final Long requestedAtNanos;  // 시작 요청 시각 (System.nanoTime), 서버 재시작 복원 시 null
+
+    public GameStartEvent(Long gameId) {
+        this(gameId, null);
+    }
 }
@@ -44,4 +44,16 @@ public class MyInfo {
         this.muteMic = player.isMuteMic();
         this.openviduToken = player.getOpenviduToken();
     }
+
+    // 캐시된 원본을 요청마다 복사해 음성 토큰만 채움
+    MyInfo(MyInfo other) {
+        this.playerNo = other.playerNo;
+        this.nickname = other.nickname;
+        this.subscriptions = other.subscriptions;
+        this.isDead = other.isDead;
+        this.role = other.role;
+        this.muteAudio = other.muteAudio;
+        this.muteMic = other.muteMic;
+        this.openviduToken = other.openviduToken;
+    }
 }
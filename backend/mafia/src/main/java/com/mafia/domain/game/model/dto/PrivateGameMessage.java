@@ -0,0 +1,18 @@
+package com.mafia.domain.game.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 플레이어에게만 보내는 게임 메시지 (노드 간 Redis 채널로 전달)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrivateGameMessage {
+
+    private List<Long> memberIds;  // 받을 회원 ID
+    private String message;        // 클라이언트에 그대로 전달할 JSON
+}
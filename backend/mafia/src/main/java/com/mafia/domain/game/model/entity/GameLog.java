@@ -6,8 +6,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,8 +20,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class GameLog extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long logId;
+    private Long logId;  // Redis 카운터에서 발급 (배치 INSERT 를 위해 IDENTITY 미사용)
 
     private Long gameId;
     private Integer playerCnt;
@@ -33,7 +30,8 @@ public class GameLog extends BaseEntity {
 
     protected GameLog(){}
 
-    public GameLog(Long gameId, GameStatus winRole, Integer playerCnt, String version) {
+    public GameLog(Long logId, Long gameId, GameStatus winRole, Integer playerCnt, String version) {
+        this.logId = logId;
         this.gameId = gameId;
         this.winRole = winRole;
         this.playerCnt = playerCnt;
@@ -0,0 +1,11 @@
+package com.mafia.domain.game.model.game;
+
+public enum GameEventType {
+    GAME_STARTED,   // 게임 시작 (같은 방의 이전 게임 상태와 구분)
+    PHASE_CHANGED,  // 페이즈 전환 (phase, time)
+    VOTE_RESULT,    // 투표 결과 (targetNo, 없으면 -1)
+    VOTE_KILL,      // 최종 투표 처형 여부 (kill)
+    PLAYER_DIED,    // 밤/처형 사망자 (playerNos)
+    PLAYER_HEALED,  // 의사 치료로 생존 (playerNo)
+    GAME_ENDED      // 게임 종료, 대기실로 복귀
+}
@@ -0,0 +1,29 @@
+package com.mafia.domain.game.model.webSocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class GameMessages {
+
+    @Data
+    public static class TargetMessage {
+
+        private Integer targetNo;  // 투표/타겟 대상 플레이어 번호 (기권은 -1)
+    }
+
+    @Data
+    public static class ResumeMessage {
+
+        private long after;  // 마지막으로 받은 변경분 순번
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionResult {
+
+        private String action;   // vote, finalvote, skip, target
+        private String message;  // 처리 결과 (REST 응답과 같은 문구)
+    }
+}
@@ -0,0 +1,95 @@
+package com.mafia.domain.game.repository;
+
+import com.mafia.domain.game.model.dto.GameEventRange;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 상태 변경분 버퍼 (Redis)
+ * <pre>
+ * game-events:{gameId}:seq     STRING  게임별 변경분 순번
+ * game-events:{gameId}         ZSET    score = 순번, member = 변경분 JSON (최근 bufferSize 개만 보관)
+ * </pre>
+ * 순번 발급, 보관, game-{id}-system 발행을 한 스크립트에서 처리하므로 어느 노드에서 발행해도 순번 순서대로 전달됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameEventRedisRepository {
+
+    // KEYS: seq, events / ARGV: channel, 변경분 JSON (seq 제외), bufferSize, ttlMs -> 발급한 순번
+    // 변경분 JSON 은 항상 '{' 로 시작하는 객체이므로 맨 앞에 seq 를 끼워 넣음
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+        local seq = redis.call('INCR', KEYS[1])
+        local event = '{"seq":' .. seq .. ',' .. string.sub(ARGV[2], 2)
+        redis.call('ZADD', KEYS[2], seq, event)
+        redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[3]) + 1))
+        redis.call('PEXPIRE', KEYS[1], ARGV[4])
+        redis.call('PEXPIRE', KEYS[2], ARGV[4])
+        redis.call('PUBLISH', ARGV[1], event)
+        return seq
+        """, Long.class);
+
+    // KEYS: seq, events / ARGV: 마지막으로 받은 순번 -> {현재 순번, 'ok' | 'gap', 변경분...}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_AFTER_SCRIPT = new DefaultRedisScript<>("""
+        local seq = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local after = tonumber(ARGV[1])
+        if after == seq then return {tostring(seq), 'ok'} end
+        local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+        if after > seq or after < 0 or #oldest == 0 or tonumber(oldest[2]) > after + 1 then
+            return {tostring(seq), 'gap'}
+        end
+        local result = {tostring(seq), 'ok'}
+        for _, event in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. after, '+inf')) do
+            table.insert(result, event)
+        end
+        return result
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String getSeqKey(long gameId) {
+        return "game-events:" + gameId + ":seq";
+    }
+
+    private String getEventsKey(long gameId) {
+        return "game-events:" + gameId;
+    }
+
+    /**
+     * 순번을 붙여 보관하고 채널로 발행
+     *
+     * @return 발급한 순번
+     */
+    public long append(long gameId, String channel, String eventJson, int bufferSize, long ttlMs) {
+        Long seq = redisTemplate.execute(APPEND_SCRIPT, List.of(getSeqKey(gameId), getEventsKey(gameId)),
+            channel, eventJson, String.valueOf(bufferSize), String.valueOf(ttlMs));
+        return seq == null ? 0 : seq;
+    }
+
+    /**
+     * 마지막 변경분 순번 (없으면 0)
+     */
+    public long getSequence(long gameId) {
+        String seq = redisTemplate.opsForValue().get(getSeqKey(gameId));
+        return seq == null ? 0 : Long.parseLong(seq);
+    }
+
+    /**
+     * afterSeq 이후 변경분 조회 (보관 범위를 벗어났으면 gap)
+     */
+    @SuppressWarnings("unchecked")
+    public GameEventRange findAfter(long gameId, long afterSeq) {
+        List<String> result = redisTemplate.execute(FIND_AFTER_SCRIPT,
+            List.of(getSeqKey(gameId), getEventsKey(gameId)), String.valueOf(afterSeq));
+        if (result == null || result.size() < 2) {
+            return new GameEventRange(0, true, List.of());
+        }
+        return new GameEventRange(Long.parseLong(result.get(0)), "gap".equals(result.get(1)),
+            result.subList(2, result.size()));
+    }
+}
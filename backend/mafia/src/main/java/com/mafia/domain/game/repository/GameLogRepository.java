@@ -2,7 +2,10 @@ package com.mafia.domain.game.repository;
 
 import com.mafia.domain.game.model.entity.GameLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface GameLogRepository  extends JpaRepository<GameLog, Long> {
 
+    @Query("SELECT COALESCE(MAX(g.logId), 0) FROM GameLog g")
+    long findMaxLogId();
 }
@@ -2,6 +2,7 @@ package com.mafia.domain.game.repository;
 
 
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.global.common.utils.SingleFlight;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 public class GameRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SingleFlight<Long, Optional<Game>> sharedLoader = new SingleFlight<>();
 
 
     private String getGamekey(long roomId) {
@@ -20,7 +22,11 @@ public class GameRepository {
 
     // 게임 저장
     public void save(Game game) {
-        redisTemplate.opsForValue().set(getGamekey(game.getGameId()), game);
+        try {
+            redisTemplate.opsForValue().set(getGamekey(game.getGameId()), game);
+        } finally {
+            sharedLoader.invalidate();
+        }
     }
 
     // 게임 조회
@@ -32,9 +38,25 @@ public class GameRepository {
         return Optional.empty();
     }
 
+    /**
+     * 읽기 전용 게임 조회 - 같은 게임을 동시에 조회하면 GET/역직렬화를 한 번만 하고 결과 객체를 함께 씀 (수정, 저장 금지)
+     */
+    public Optional<Game> findByIdShared(long roomId) {
+        return sharedLoader.load(roomId, () -> findById(roomId));
+    }
+
+    // 게임 존재 여부
+    public boolean existsById(long roomId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getGamekey(roomId)));
+    }
+
     // 게임 삭제
     public void delete(long roomId) {
-        redisTemplate.delete(getGamekey(roomId));
+        try {
+            redisTemplate.delete(getGamekey(roomId));
+        } finally {
+            sharedLoader.invalidate();
+        }
     }
 
 
@@ -0,0 +1,196 @@
+package com.mafia.domain.game.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 결과 집계 버퍼 (Redis)
+ * <pre>
+ * member-stats:win                 HASH    memberId -> 아직 MySQL 에 반영되지 않은 승리 수
+ * member-stats:lose                HASH    memberId -> 아직 MySQL 에 반영되지 않은 패배 수
+ * member-stats:flushing:win/lose   HASH    반영 중인 묶음 (flush 시작 시 위 해시를 이름만 바꿔 옮김)
+ * member-stats:flushing:id         STRING  반영 중인 묶음 ID (MySQL 중복 반영 방지 키)
+ * member-stats:flush-seq           STRING  반영을 마친 묶음 수 (MySQL 값을 읽는 쪽에서 그 사이 반영이 있었는지 확인용)
+ * member-stats:recorded:{gameId}:{requestedAt}  STRING  같은 종료 요청을 두 번 집계하지 않기 위한 표시 (1일)
+ * game-logs:id-seq                 STRING  GameLog ID 카운터
+ * game-logs:pending                LIST    MySQL 저장 대기 중인 GameLog (JSON)
+ * game-results:flush-lock          STRING  flush 실행 노드 잠금
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameResultRedisRepository {
+
+    public static final String WIN_KEY = "member-stats:win";
+    public static final String LOSE_KEY = "member-stats:lose";
+    public static final String FLUSHING_WIN_KEY = "member-stats:flushing:win";
+    public static final String FLUSHING_LOSE_KEY = "member-stats:flushing:lose";
+    public static final String FLUSH_SEQ_KEY = "member-stats:flush-seq";
+    private static final String FLUSHING_ID_KEY = "member-stats:flushing:id";
+    private static final String LOG_ID_SEQ_KEY = "game-logs:id-seq";
+    private static final String PENDING_LOGS_KEY = "game-logs:pending";
+    private static final String FLUSH_LOCK_KEY = "game-results:flush-lock";
+    private static final long RECORDED_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+
+    // KEYS: recorded, win, lose, pendingLogs / ARGV: ttl, logJson, winCount, 승자 ID..., 패자 ID... -> 새로 집계했으면 1
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then return 0 end
+        local winEnd = 3 + tonumber(ARGV[3])
+        for i = 4, winEnd do
+            redis.call('HINCRBY', KEYS[2], ARGV[i], 1)
+        end
+        for i = winEnd + 1, #ARGV do
+            redis.call('HINCRBY', KEYS[3], ARGV[i], 1)
+        end
+        redis.call('RPUSH', KEYS[4], ARGV[2])
+        return 1
+        """, Long.class);
+
+    // KEYS: win, lose, flushingWin, flushingLose, flushingId / ARGV: 새 묶음 ID -> 반영할 묶음 ID (없으면 nil)
+    private static final RedisScript<String> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[5])
+        if current then return current end
+        local hasWin = redis.call('EXISTS', KEYS[1]) == 1
+        local hasLose = redis.call('EXISTS', KEYS[2]) == 1
+        if not hasWin and not hasLose then return false end
+        if hasWin then redis.call('RENAME', KEYS[1], KEYS[3]) end
+        if hasLose then redis.call('RENAME', KEYS[2], KEYS[4]) end
+        redis.call('SET', KEYS[5], ARGV[1])
+        return ARGV[1]
+        """, String.class);
+
+    // KEYS: flushingWin, flushingLose, flushingId, flushSeq / ARGV: 묶음 ID -> 지웠으면 1
+    private static final RedisScript<Long> END_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[3]) ~= ARGV[1] then return 0 end
+        redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+        redis.call('INCR', KEYS[4])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RAISE_SEQ_SCRIPT = new DefaultRedisScript<>("""
+        local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if current < tonumber(ARGV[1]) then
+            redis.call('SET', KEYS[1], ARGV[1])
+            return tonumber(ARGV[1])
+        end
+        return current
+        """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public long nextGameLogId() {
+        return redisTemplate.opsForValue().increment(LOG_ID_SEQ_KEY);
+    }
+
+    /**
+     * GameLog ID 카운터를 최소 floor 까지 올림
+     *
+     * @return 조정 후 카운터 값
+     */
+    public long raiseGameLogIdSequence(long floor) {
+        return redisTemplate.execute(RAISE_SEQ_SCRIPT, List.of(LOG_ID_SEQ_KEY), String.valueOf(floor));
+    }
+
+    /**
+     * 같은 게임의 같은 종료 요청이 이미 집계됐는지 확인
+     */
+    public boolean isRecorded(long gameId, long requestedAt) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getRecordedKey(gameId, requestedAt)));
+    }
+
+    /**
+     * 승패 증가분과 게임 로그를 한 번에 기록 (같은 게임의 같은 종료 요청은 한 번만 반영)
+     *
+     * @return 새로 기록했으면 true
+     */
+    public boolean record(long gameId, long requestedAt, String logJson,
+        Collection<Long> winners, Collection<Long> losers) {
+        List<String> args = new ArrayList<>(3 + winners.size() + losers.size());
+        args.add(String.valueOf(RECORDED_TTL_SECONDS));
+        args.add(logJson);
+        args.add(String.valueOf(winners.size()));
+        winners.forEach(memberId -> args.add(String.valueOf(memberId)));
+        losers.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        Long result = redisTemplate.execute(RECORD_SCRIPT,
+            List.of(getRecordedKey(gameId, requestedAt), WIN_KEY, LOSE_KEY, PENDING_LOGS_KEY),
+            args.toArray());
+        return result != null && result == 1;
+    }
+
+    private static String getRecordedKey(long gameId, long requestedAt) {
+        return "member-stats:recorded:" + gameId + ":" + requestedAt;
+    }
+
+    /**
+     * 쌓인 승패 증가분을 반영 중 묶음으로 옮김 - 이전 묶음이 아직 남아 있으면 그 묶음을 다시 반환
+     *
+     * @return 반영할 묶음 ID, 반영할 것이 없으면 null
+     */
+    public String beginStatFlush(String newFlushId) {
+        return redisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+            List.of(WIN_KEY, LOSE_KEY, FLUSHING_WIN_KEY, FLUSHING_LOSE_KEY, FLUSHING_ID_KEY), newFlushId);
+    }
+
+    /**
+     * 반영 중 묶음 조회
+     *
+     * @return memberId -> {승리 증가분, 패배 증가분}
+     */
+    public Map<Long, long[]> findFlushingStats() {
+        Map<Long, long[]> stats = new HashMap<>();
+        redisTemplate.opsForHash().entries(FLUSHING_WIN_KEY).forEach((memberId, count) ->
+            stats.computeIfAbsent(Long.valueOf((String) memberId), id -> new long[2])[0] =
+                Long.parseLong((String) count));
+        redisTemplate.opsForHash().entries(FLUSHING_LOSE_KEY).forEach((memberId, count) ->
+            stats.computeIfAbsent(Long.valueOf((String) memberId), id -> new long[2])[1] =
+                Long.parseLong((String) count));
+        return stats;
+    }
+
+    /**
+     * 반영 완료된 묶음 삭제 (그 사이 다른 묶음으로 바뀌었으면 무시)
+     */
+    public void endStatFlush(String flushId) {
+        redisTemplate.execute(END_FLUSH_SCRIPT,
+            List.of(FLUSHING_WIN_KEY, FLUSHING_LOSE_KEY, FLUSHING_ID_KEY, FLUSH_SEQ_KEY), flushId);
+    }
+
+    /**
+     * 저장 대기 중인 게임 로그를 앞에서부터 최대 count 개 조회 (삭제는 저장 후 {@link #trimPendingLogs})
+     */
+    public List<String> peekPendingLogs(int count) {
+        List<String> logs = redisTemplate.opsForList().range(PENDING_LOGS_KEY, 0, count - 1);
+        return logs == null ? List.of() : logs;
+    }
+
+    public void trimPendingLogs(int count) {
+        redisTemplate.opsForList().trim(PENDING_LOGS_KEY, count, -1);
+    }
+
+    /**
+     * flush 잠금 획득 (만료 시각이 지나면 자동 해제)
+     */
+    public boolean tryLock(String owner, long leaseMs) {
+        return Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, owner, Duration.ofMillis(leaseMs)));
+    }
+
+    public void unlock(String owner) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), owner);
+    }
+}
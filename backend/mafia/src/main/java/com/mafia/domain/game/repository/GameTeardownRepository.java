@@ -0,0 +1,104 @@
+package com.mafia.domain.game.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 정리 작업 저장소 (Redis)
+ * <pre>
+ * games:teardown-queue     ZSET  gameId, score = 다음 실행 가능 시각(ms)
+ * game:{id}:teardown       HASH  requestedAt, version, attempts, 완료된 단계명 -> 1
+ * </pre>
+ * 작업을 가져갈 때 score 를 임대 만료 시각으로 미뤄 두므로 여러 노드가 같은 작업을 동시에 처리하지 않고, 처리 중 노드가 죽으면
+ * 임대가 끝난 뒤 다른 노드가 이어서 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameTeardownRepository {
+
+    private static final String QUEUE_KEY = "games:teardown-queue";
+    public static final String FIELD_REQUESTED_AT = "requestedAt";
+    public static final String FIELD_VERSION = "version";
+    public static final String FIELD_ATTEMPTS = "attempts";
+
+    // KEYS: job, queue / ARGV: gameId, requestedAt, version -> 새로 등록했으면 1
+    private static final RedisScript<Long> REQUEST_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HSETNX', KEYS[1], 'requestedAt', ARGV[2]) == 0 then return 0 end
+        redis.call('HSET', KEYS[1], 'version', ARGV[3], 'attempts', 0)
+        redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    // KEYS: queue / ARGV: now, leaseUntil, limit -> 임대한 gameId 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+        for _, gameId in ipairs(due) do
+            redis.call('ZADD', KEYS[1], ARGV[2], gameId)
+        end
+        return due
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String getJobKey(long gameId) {
+        return "game:" + gameId + ":teardown";
+    }
+
+    /**
+     * 정리 작업 등록 (이미 등록된 게임이면 무시)
+     *
+     * @return 새로 등록했으면 true
+     */
+    public boolean request(long gameId, long requestedAt, String version) {
+        Long result = redisTemplate.execute(REQUEST_SCRIPT, List.of(getJobKey(gameId), QUEUE_KEY),
+            String.valueOf(gameId), String.valueOf(requestedAt), version == null ? "" : version);
+        return result != null && result == 1;
+    }
+
+    public boolean isRequested(long gameId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getJobKey(gameId)));
+    }
+
+    /**
+     * 실행 시각이 된 작업을 최대 limit 개 임대
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claim(long now, long leaseUntil, int limit) {
+        List<String> gameIds = (List<String>) redisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY),
+            String.valueOf(now), String.valueOf(leaseUntil), String.valueOf(limit));
+        return gameIds == null ? List.of() : gameIds.stream().map(Long::valueOf).toList();
+    }
+
+    public Map<Object, Object> findJob(long gameId) {
+        return redisTemplate.opsForHash().entries(getJobKey(gameId));
+    }
+
+    public void markStageDone(long gameId, String stage) {
+        redisTemplate.opsForHash().put(getJobKey(gameId), stage, "1");
+    }
+
+    /**
+     * 실패 기록 후 재시도 시각으로 미룸
+     *
+     * @return 누적 시도 횟수
+     */
+    public long reschedule(long gameId, long retryAt) {
+        Long attempts = redisTemplate.opsForHash().increment(getJobKey(gameId), FIELD_ATTEMPTS, 1);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(gameId), retryAt);
+        return attempts == null ? 0 : attempts;
+    }
+
+    /**
+     * 모든 단계 완료 - 작업 삭제
+     */
+    public void complete(long gameId) {
+        redisTemplate.opsForZSet().remove(QUEUE_KEY, String.valueOf(gameId));
+        redisTemplate.delete(getJobKey(gameId));
+    }
+}
@@ -0,0 +1,97 @@
+package com.mafia.domain.game.repository;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * OpenVidu 세션 레지스트리 (Redis) - 어느 노드에서든 같은 게임의 세션과 토큰을 조회할 수 있도록 공유
+ * <pre>
+ * voice:session-pool      LIST  미리 만들어 둔 빈 세션 ID
+ * voice:game-sessions     HASH  gameId -> sessionId
+ * voice:tokens:{gameId}   HASH  memberId -> 토큰
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoiceSessionRepository {
+
+    private static final String POOL_KEY = "voice:session-pool";
+    private static final String GAME_SESSIONS_KEY = "voice:game-sessions";
+    private static final Duration TOKENS_TTL = Duration.ofHours(6);  // 종료 처리가 누락된 게임 대비
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String getTokensKey(long gameId) {
+        return "voice:tokens:" + gameId;
+    }
+
+    public long poolSize() {
+        Long size = redisTemplate.opsForList().size(POOL_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public void pushPool(String sessionId) {
+        redisTemplate.opsForList().rightPush(POOL_KEY, sessionId);
+    }
+
+    /**
+     * 풀에서 세션 하나 꺼내기
+     *
+     * @return 풀이 비었으면 null
+     */
+    public String popPool() {
+        return redisTemplate.opsForList().leftPop(POOL_KEY);
+    }
+
+    public String findSessionId(long gameId) {
+        return (String) redisTemplate.opsForHash().get(GAME_SESSIONS_KEY, String.valueOf(gameId));
+    }
+
+    /**
+     * 게임에 세션 배정 (이미 배정된 세션이 있으면 실패)
+     */
+    public boolean assignSession(long gameId, String sessionId) {
+        return redisTemplate.opsForHash().putIfAbsent(GAME_SESSIONS_KEY, String.valueOf(gameId), sessionId);
+    }
+
+    /**
+     * 사라진 세션을 새 세션으로 교체 - 기존 값이 expected 일 때만 교체하고 발급된 토큰은 모두 폐기
+     */
+    public void replaceSession(long gameId, String expected, String sessionId) {
+        String gameKey = String.valueOf(gameId);
+        if (expected.equals(redisTemplate.opsForHash().get(GAME_SESSIONS_KEY, gameKey))) {
+            redisTemplate.opsForHash().put(GAME_SESSIONS_KEY, gameKey, sessionId);
+            redisTemplate.delete(getTokensKey(gameId));
+        }
+    }
+
+    public String findToken(long gameId, long memberId) {
+        return (String) redisTemplate.opsForHash().get(getTokensKey(gameId), String.valueOf(memberId));
+    }
+
+    /**
+     * 토큰 저장 - 다른 노드가 먼저 저장했다면 그 토큰을 반환
+     */
+    public String saveToken(long gameId, long memberId, String token) {
+        String key = getTokensKey(gameId);
+        if (!redisTemplate.opsForHash().putIfAbsent(key, String.valueOf(memberId), token)) {
+            return findToken(gameId, memberId);
+        }
+        redisTemplate.expire(key, TOKENS_TTL);
+        return token;
+    }
+
+    /**
+     * 게임의 세션 배정과 토큰 삭제
+     *
+     * @return 배정되어 있던 세션 ID (없으면 null)
+     */
+    public String removeGame(long gameId) {
+        String sessionId = findSessionId(gameId);
+        redisTemplate.opsForHash().delete(GAME_SESSIONS_KEY, String.valueOf(gameId));
+        redisTemplate.delete(getTokensKey(gameId));
+        return sessionId;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mafia.domain.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.GameEvent;
+import com.mafia.domain.game.model.dto.GameEventRange;
+import com.mafia.domain.game.model.game.GameEventType;
+import com.mafia.domain.game.repository.GameEventRedisRepository;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게임 상태 변경분 발행 - 게임별 순번을 붙여 game-{id}-system 으로 보내고 최근 변경분을 Redis 에 보관
+ * <p>
+ * 클라이언트는 순번이 건너뛰면 놓친 변경분만 다시 요청하고, 보관 범위를 넘었을 때만 전체 상태를 받습니다.
+ */
+@Service
+public class GameEventService {
+
+    private final GameEventRedisRepository eventRepository;
+    private final GameInfoCache gameInfoCache;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long ttlMs;
+
+    public GameEventService(GameEventRedisRepository eventRepository,
+        GameInfoCache gameInfoCache,
+        ObjectMapper objectMapper,
+        @Value("${game.events.buffer-size:200}") int bufferSize,
+        @Value("${game.events.ttl-ms:21600000}") long ttlMs) {
+        this.eventRepository = eventRepository;
+        this.gameInfoCache = gameInfoCache;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.ttlMs = ttlMs;
+    }
+
+    public static String getChannel(long gameId) {
+        return "game-" + gameId + "-system";
+    }
+
+    /**
+     * 변경분 발행
+     *
+     * @param data   변경 내용
+     * @param legacy 이전 클라이언트용 메시지 키 (death, voteresult 등)
+     * @return 발급한 순번
+     */
+    public long publish(long gameId, GameEventType type, Map<String, Object> data, Map<String, Object> legacy)
+        throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(new GameEvent(type, data, legacy));
+        long seq = eventRepository.append(gameId, getChannel(gameId), json, bufferSize, ttlMs);
+        gameInfoCache.advance(gameId, seq);
+        return seq;
+    }
+
+    public long getSequence(long gameId) {
+        return eventRepository.getSequence(gameId);
+    }
+
+    public GameEventRange findAfter(long gameId, long afterSeq) {
+        return eventRepository.findAfter(gameId, afterSeq);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mafia.domain.game.service;
+
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.dto.GameInfoView;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 정보 캐시 (노드 메모리)
+ * <ul>
+ *     <li>상태 순번: game-{id}-system 을 구독 중인 노드는 지나가는 메시지(변경분, 매초 타이머)의 seq 로 최신 순번을 알고 있으므로
+ *     조건부 요청(ETag)을 Redis 조회 없이 판단합니다. 구독하지 않은 게임은 알지 못하는 것으로 처리합니다.</li>
+ *     <li>공용 게임 정보: 순번마다 한 번만 만들어 같은 게임의 모든 플레이어가 공유합니다.</li>
+ * </ul>
+ * 게임이 끝나거나 일정 시간 쓰이지 않은 항목은 지웁니다.
+ */
+@Slf4j
+@Component
+public class GameInfoCache {
+
+    private static final long IDLE_MS = 10 * 60 * 1000;
+
+    private final Map<Long, KnownVersion> versions = new ConcurrentHashMap<>();
+    private final Map<Long, GameInfoView> views = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 채널로 받은 순번 기록
+     */
+    public void onSystemMessage(long gameId, long seq) {
+        KnownVersion received = new KnownVersion(seq, System.currentTimeMillis());
+        versions.merge(gameId, received,
+            (current, next) -> next.seq >= current.seq ? next : new KnownVersion(current.seq, next.updatedAt));
+    }
+
+    /**
+     * 이 노드가 발행한 순번 반영 - 구독 채널로 돌아오기 전에 먼저 올려 둠 (구독 중인 게임만)
+     */
+    public void advance(long gameId, long seq) {
+        versions.computeIfPresent(gameId,
+            (id, current) -> seq > current.seq ? new KnownVersion(seq, System.currentTimeMillis()) : current);
+    }
+
+    /**
+     * 이 노드가 아는 최신 순번 (모르면 null)
+     */
+    public Long getKnownVersion(long gameId) {
+        KnownVersion known = versions.get(gameId);
+        return known == null ? null : known.seq;
+    }
+
+    /**
+     * 해당 순번의 공용 게임 정보 (없으면 null)
+     */
+    public GameInfoView get(long gameId, long version) {
+        GameInfoView view = views.get(gameId);
+        return view != null && view.getVersion() == version ? view : null;
+    }
+
+    /**
+     * 공용 게임 정보 저장 - 동시에 만든 경우 더 최신 순번만 남김
+     */
+    public void put(GameInfoView view) {
+        views.merge(view.getGameId(), view,
+            (current, next) -> next.getVersion() >= current.getVersion() ? next : current);
+    }
+
+    @EventListener
+    public void evict(GameEndEvent event) {
+        versions.remove(event.getGameId());
+        views.remove(event.getGameId());
+    }
+
+    /**
+     * 다른 노드에서 끝난 게임 등 오래 쓰이지 않은 항목 정리
+     */
+    @Scheduled(fixedDelay = IDLE_MS)
+    public void sweep() {
+        long threshold = System.currentTimeMillis() - IDLE_MS;
+        versions.values().removeIf(known -> known.updatedAt < threshold);
+        views.values().removeIf(view -> view.getLastAccessAt() < threshold);
+    }
+
+    private static final class KnownVersion {
+
+        private final long seq;
+        private final long updatedAt;
+
+        private KnownVersion(long seq, long updatedAt) {
+            this.seq = seq;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
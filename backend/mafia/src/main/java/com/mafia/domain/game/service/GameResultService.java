@@ -0,0 +1,276 @@
+package com.mafia.domain.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.GameLogRecord;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameStatus;
+import com.mafia.domain.game.model.game.Player;
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.game.repository.GameLogRepository;
+import com.mafia.domain.game.repository.GameResultRedisRepository;
+import com.mafia.domain.member.repository.GuestRedisRepository;
+import com.mafia.domain.member.service.LeaderboardService;
+import com.mafia.global.common.model.enums.Status;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게임 결과(회원 승패, 게임 로그) 집계 서비스
+ * <p>
+ * 게임이 끝나면 승패 증가분은 Redis 해시에 HINCRBY 로, 게임 로그는 Redis 대기열에 쌓아 두고 주기적으로 MySQL 에 반영합니다.
+ * 한 번의 반영에서 회원마다 UPDATE 한 건으로 합쳐지므로 동시에 끝난 게임들이 같은 회원 행을 두고 경합하지 않습니다.
+ * <ul>
+ *     <li>승패: 쌓인 해시를 "반영 중" 묶음으로 옮긴 뒤 반영하고, 묶음 ID 를 같은 트랜잭션에 기록해 두 번 반영되지 않게 합니다.
+ *     커밋 전에 노드가 죽으면 묶음이 Redis 에 남아 있어 다음 flush 에서 다시 반영합니다.</li>
+ *     <li>게임 로그: ID 를 Redis 카운터에서 미리 발급하므로 배치 INSERT 가 가능합니다. 다시 저장해 기본 키가 겹치면 한 건씩
+ *     저장하며, 이미 있는 행이 같은 게임이면 저장된 것으로 보고 다른 게임이면 오류로 남기고 카운터를 올립니다. 그 밖의 제약
+ *     위반은 감추지 않고 flush 실패로 올려 다시 시도합니다.</li>
+ *     <li>Redis 게스트: 승패를 게스트 해시에만 쌓고 MySQL 과 리더보드에는 반영하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class GameResultService {
+
+    private static final String INSERT_FLUSH_SQL =
+        "INSERT INTO member_stat_flush (flush_id, applied_at) VALUES (?, ?)";
+    private static final String EXISTS_FLUSH_SQL =
+        "SELECT COUNT(*) FROM member_stat_flush WHERE flush_id = ?";
+    private static final String UPDATE_STATS_SQL =
+        "UPDATE member SET win = COALESCE(win, 0) + ?, lose = COALESCE(lose, 0) + ? WHERE member_id = ?";
+    private static final String INSERT_LOG_SQL =
+        "INSERT INTO game_log (log_id, game_id, player_cnt, win_role, version, created_at, updated_at, status) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FIND_LOG_GAME_SQL = "SELECT game_id FROM game_log WHERE log_id = ?";
+    private static final String PURGE_FLUSH_SQL = "DELETE FROM member_stat_flush WHERE applied_at < ?";
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final GameResultRedisRepository redisRepository;
+    private final GuestRedisRepository guestRepository;
+    private final GameLogRepository gameLogRepository;
+    private final LeaderboardService leaderboardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long lockMs;
+    private final long retryBaseMs;
+
+    private int consecutiveFailures = 0;
+    private long retryAt = 0;
+
+    public GameResultService(GameResultRedisRepository redisRepository,
+        GuestRedisRepository guestRepository,
+        GameLogRepository gameLogRepository,
+        LeaderboardService leaderboardService,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ObjectMapper objectMapper,
+        @Value("${game.result.batch-size:500}") int batchSize,
+        @Value("${game.result.lock-ms:30000}") long lockMs,
+        @Value("${game.result.retry-base-ms:1000}") long retryBaseMs) {
+        this.redisRepository = redisRepository;
+        this.guestRepository = guestRepository;
+        this.gameLogRepository = gameLogRepository;
+        this.leaderboardService = leaderboardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.lockMs = lockMs;
+        this.retryBaseMs = retryBaseMs;
+    }
+
+    /**
+     * 서버 시작 시 GameLog ID 카운터를 MySQL 최대 ID 이상으로 맞춤 (IDENTITY 로 만들어진 기존 로그와 충돌 방지)
+     */
+    @PostConstruct
+    public void syncGameLogIdSequence() {
+        long sequence = redisRepository.raiseGameLogIdSequence(gameLogRepository.findMaxLogId());
+        log.info("GameLog ID 카운터 동기화 - 현재 값: {}", sequence);
+    }
+
+    /**
+     * 게임 결과 집계 - Redis 에만 기록하고 MySQL 반영은 flush 에서 처리 (같은 종료 요청은 한 번만 집계)
+     * <p>
+     * 리더보드는 승패 증가분을 기록한 뒤에 갱신합니다. 리더보드 대조 작업은 MySQL 에 반영되지 않은 증가분이 있는 회원을 건너뛰므로
+     * 이 순서여야 방금 올린 순위를 MySQL 의 이전 값으로 덮어쓰지 않습니다.
+     */
+    public void recordGame(Game game, long requestedAt, String version) throws JsonProcessingException {
+        GameStatus gameStatus = game.getGameStatus();
+        Map<Long, Role> winners = new LinkedHashMap<>();
+        List<Long> losers = new ArrayList<>();
+        List<Long> guestWinners = new ArrayList<>();
+        List<Long> guestLosers = new ArrayList<>();
+        for (Player player : game.getPlayers().values()) {
+            boolean isGuest = GuestRedisRepository.isGuest(player.getMemberId());
+            if (isWinner(player.getRole(), gameStatus)) {
+                if (isGuest) {
+                    guestWinners.add(player.getMemberId());
+                } else {
+                    winners.put(player.getMemberId(), player.getRole());
+                }
+            } else if (isGuest) {
+                guestLosers.add(player.getMemberId());
+            } else {
+                losers.add(player.getMemberId());
+            }
+        }
+        guestRepository.record(game.getGameId(), requestedAt, guestWinners, guestLosers);
+
+        // 이미 집계된 종료 요청(단계 재시도)이면 로그 ID 를 발급하지 않음 - 동시에 들어온 같은 요청은 ID 하나만 비고 한 번만 기록됨
+        if (redisRepository.isRecorded(game.getGameId(), requestedAt)) {
+            log.info("Game {} result already recorded", game.getGameId());
+        } else {
+            GameLogRecord record = new GameLogRecord(redisRepository.nextGameLogId(), game.getGameId(),
+                game.getPlayers().size(), gameStatus, version, requestedAt);
+            if (!redisRepository.record(game.getGameId(), requestedAt, objectMapper.writeValueAsString(record),
+                winners.keySet(), losers)) {
+                log.info("Game {} result already recorded", game.getGameId());
+            }
+        }
+        leaderboardService.recordGame(game.getGameId(), requestedAt, winners, losers);
+    }
+
+    /**
+     * 쌓인 승패와 게임 로그를 MySQL 에 반영 (한 노드만 실행, 실패 시 점점 긴 간격으로 재시도)
+     */
+    @Scheduled(fixedDelayString = "${game.result.flush-interval-ms:1000}")
+    public void flush() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        if (!redisRepository.tryLock(owner, lockMs)) {
+            return;
+        }
+
+        try {
+            flushStats();
+            flushLogs();
+            consecutiveFailures = 0;
+        } catch (Exception e) {
+            consecutiveFailures++;
+            long backoff = Math.min(retryBaseMs << Math.min(consecutiveFailures - 1, 10), MAX_BACKOFF_MS);
+            retryAt = System.currentTimeMillis() + backoff;
+            log.error("게임 결과 MySQL 반영 실패 ({}회 연속) - {}ms 후 재시도: {}", consecutiveFailures, backoff,
+                e.getMessage());
+        } finally {
+            redisRepository.unlock(owner);
+        }
+    }
+
+    /**
+     * 오래된 반영 기록 삭제 (Redis 묶음은 반영 직후 지워지므로 하루 지난 기록은 더 이상 필요 없음)
+     */
+    @Scheduled(cron = "${game.result.flush-purge-cron:0 30 4 * * *}")
+    public void purgeFlushHistory() {
+        int deleted = jdbcTemplate.update(PURGE_FLUSH_SQL, Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+        log.info("승패 반영 기록 정리 - {}건 삭제", deleted);
+    }
+
+    private void flushStats() {
+        String flushId = redisRepository.beginStatFlush(UUID.randomUUID().toString());
+        if (flushId == null) {
+            return;
+        }
+
+        // 회원 ID 순으로 갱신해 다른 트랜잭션과 잠금 순서가 엇갈리지 않게 함
+        List<Object[]> rows = redisRepository.findFlushingStats().entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[]{entry.getValue()[0], entry.getValue()[1], entry.getKey()})
+            .toList();
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            Integer exists = jdbcTemplate.queryForObject(EXISTS_FLUSH_SQL, Integer.class, flushId);
+            if (exists != null && exists > 0) {
+                return false;  // 이전 시도에서 커밋까지 끝난 묶음
+            }
+            jdbcTemplate.update(INSERT_FLUSH_SQL, flushId, Timestamp.valueOf(LocalDateTime.now()));
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(UPDATE_STATS_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+            }
+            return true;
+        });
+
+        redisRepository.endStatFlush(flushId);
+        log.debug("회원 승패 반영 - 묶음: {}, 회원: {}, 반영: {}", flushId, rows.size(), applied);
+    }
+
+    private void flushLogs() throws JsonProcessingException {
+        List<String> pending;
+        do {
+            pending = redisRepository.peekPendingLogs(batchSize);
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> rows = new ArrayList<>(pending.size());
+            for (String json : pending) {
+                GameLogRecord record = objectMapper.readValue(json, GameLogRecord.class);
+                Timestamp endedAt = new Timestamp(record.getEndedAt());
+                rows.add(new Object[]{
+                    record.getLogId(),
+                    record.getGameId(),
+                    record.getPlayerCnt(),
+                    record.getWinRole().name(),
+                    record.getVersion(),
+                    endedAt,
+                    endedAt,
+                    Status.ACTIVE.name()
+                });
+            }
+            insertLogs(rows);
+            redisRepository.trimPendingLogs(pending.size());
+            log.debug("게임 로그 MySQL 저장 - {}건", rows.size());
+        } while (pending.size() == batchSize);
+    }
+
+    /**
+     * 게임 로그 배치 저장 - 기본 키 중복이 있으면 한 건씩 다시 저장 (그 밖의 제약 위반은 그대로 던짐)
+     */
+    private void insertLogs(List<Object[]> rows) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_LOG_SQL, rows);
+        } catch (DuplicateKeyException e) {
+            // 이전 시도에서 커밋된 행이나 ID 가 겹친 행을 가려내기 위해 한 건씩 저장
+            rows.forEach(this::insertLog);
+        }
+    }
+
+    private void insertLog(Object[] row) {
+        Long logId = (Long) row[0];
+        Long gameId = (Long) row[1];
+        try {
+            jdbcTemplate.update(INSERT_LOG_SQL, row);
+        } catch (DuplicateKeyException e) {
+            List<Long> existing = jdbcTemplate.queryForList(FIND_LOG_GAME_SQL, Long.class, logId);
+            if (existing.contains(gameId)) {
+                return;  // 이전 시도에서 커밋된 행
+            }
+            long sequence = redisRepository.raiseGameLogIdSequence(gameLogRepository.findMaxLogId());
+            log.error("GameLog ID 충돌 - logId {} (gameId {}) 가 MySQL 의 다른 게임 로그와 겹쳐 저장하지 못함 "
+                + "(GameLog ID 카운터를 {} 로 올림)", logId, gameId, sequence);
+        }
+    }
+
+    private boolean isWinner(Role role, GameStatus gameStatus) {
+        return (role == Role.ZOMBIE && gameStatus == GameStatus.ZOMBIE_WIN)
+            || (role == Role.MUTANT && gameStatus == GameStatus.MUTANT_WIN)
+            || (role != Role.ZOMBIE && role != Role.MUTANT && gameStatus == GameStatus.CITIZEN_WIN);
+    }
+}
@@ -8,6 +8,7 @@ import com.mafia.domain.game.event.GamePublisher;
 import com.mafia.domain.game.model.dto.GameEndEvent;
 import com.mafia.domain.game.model.dto.GameStartEvent;
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
 import com.mafia.domain.game.model.game.GamePhase;
 import com.mafia.domain.game.repository.GameRepository;
 import com.mafia.domain.game.repository.GameSeqRepository;
@@ -41,8 +42,10 @@ public class GameScheduler {
     private final GameRepository gameRepository;
     private final GameService gameService;
     private final GamePublisher gamePublisher;
+    private final GameEventService gameEventService;
     private final ObjectMapper objectMapper;
     private final GameSubscription subscription;
+    private final GameStartMetrics gameStartMetrics;
 
     // 각 게임의 타이머를 관리하는 맵
     private final Map<Long, Integer> gameTimers = new ConcurrentHashMap<>();
@@ -99,9 +102,14 @@ public class GameScheduler {
         int remainingTime = gameSeqRepository.getTimer(gameId).intValue();
         gameTimers.put(gameId, remainingTime); // 타이머 초기화
 
+        boolean firstTick = true;
         while (running && gameSeqRepository.isGameActive(gameId)) { // 게임이 활성화되어 있으면 실행
             try {
                 processTimers(gameId);
+                if (firstTick) {
+                    gameStartMetrics.recordFirstTick(gameId, event.getRequestedAtNanos());
+                    firstTick = false;
+                }
                 TimeUnit.SECONDS.sleep(1); // 1초마다 실행
             } catch (InterruptedException | JsonProcessingException e) {
                 Thread.currentThread().interrupt();
@@ -144,9 +152,10 @@ public class GameScheduler {
             gameTimers.put(gameId, remainingTime - 1);
         }
 
-        // JSON 메시지 생성 및 publish
+        // JSON 메시지 생성 및 publish (매초 나가는 타이머는 순번을 받지 않고 마지막 변경분 순번만 실어 놓친 변경분을 알 수 있게 함)
         String jsonMessage = objectMapper.writeValueAsString(
-            Map.of("time", String.valueOf(remainingTime), "phase", String.valueOf(phase))
+            Map.of("time", String.valueOf(remainingTime), "phase", String.valueOf(phase),
+                "seq", gameEventService.getSequence(gameId))
         );
 
         gamePublisher.publish("game-" + gameId + "-system", jsonMessage);
@@ -176,12 +185,8 @@ public class GameScheduler {
             }
             case DAY_VOTE -> {
                 int result = game.voteResult();
-                // JSON 메시지 생성 및 publish
-                String jsonMessage = objectMapper.writeValueAsString(
-                    Map.of("voteresult", String.valueOf(result))
-                );
-
-                gamePublisher.publish("game-" + gameId + "-system", jsonMessage);
+                gameEventService.publish(gameId, GameEventType.VOTE_RESULT, Map.of("targetNo", result),
+                    Map.of("voteresult", String.valueOf(result)));
 
                 if(game.voteResult() == -1){
                     game.updateVoicePermissions("night"); // 좀비만 음성 채팅 활성화
@@ -216,6 +221,8 @@ public class GameScheduler {
         gameSeqRepository.saveTimer(gameId, setTime);
         gameSeqRepository.savePhase(gameId, nxtPhase);
         gameRepository.save(game);
+        gameEventService.publish(gameId, GameEventType.PHASE_CHANGED,
+            Map.of("phase", nxtPhase, "time", setTime), Map.of());
         log.info("Game phase advanced in Room {}: New Phase = {}, Timer = {} seconds",
             gameId, gameSeqRepository.getPhase(gameId), gameSeqRepository.getTimer(gameId));
     }
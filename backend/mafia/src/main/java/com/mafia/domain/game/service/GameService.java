@@ -3,35 +3,36 @@ package com.mafia.domain.game.service;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.*;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.game.event.GamePublisher;
 import com.mafia.domain.game.model.dto.EndGameInfoDto;
-import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.dto.GameEventRange;
+import com.mafia.domain.game.model.dto.GameEventsResponse;
 import com.mafia.domain.game.model.dto.GameInfoDto;
+import com.mafia.domain.game.model.dto.GameInfoView;
 import com.mafia.domain.game.model.dto.GameStartEvent;
-import com.mafia.domain.game.model.entity.GameLog;
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
 import com.mafia.domain.game.model.game.GamePhase;
 import com.mafia.domain.game.model.game.GameStatus;
 import com.mafia.domain.game.model.game.Player;
 import com.mafia.domain.game.model.game.Role;
-import com.mafia.domain.game.repository.GameLogRepository;
 import com.mafia.domain.game.repository.GameRepository;
 import com.mafia.domain.game.repository.GameSeqRepository;
-import com.mafia.domain.member.service.MemberService;
 import com.mafia.domain.room.model.redis.RoomInfo;
 import com.mafia.domain.room.service.RoomRedisService;
 import com.mafia.global.common.exception.exception.BusinessException;
 import com.mafia.global.common.service.GameSubscription;
-import jakarta.transaction.Transactional;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -40,20 +41,46 @@ import org.springframework.stereotype.Service;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class GameService {
 
     private final RoomRedisService roomService;
-    private final MemberService memberService;
     private final GameRepository gameRepository; // 게임 데이터를 관리하는 리포지토리
     private final GameSeqRepository gameSeqRepository; // 게임 상태 및 시간 정보를 관리하는 리포지토리
-    private final GameLogRepository gameLogRepository;
     private final VoiceService voiceService; // 🔥 OpenVidu 연동 추가
     private final GamePublisher gamePublisher; // Game Websocket
+    private final GameEventService gameEventService; // 순번이 붙은 상태 변경분
+    private final GameInfoCache gameInfoCache;
     private final GameSubscription subscription;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher applicationEventPublisher;
-
+    private final GameTeardownService gameTeardownService;
+    private final Executor gameStartExecutor;
+
+    public GameService(RoomRedisService roomService,
+        GameRepository gameRepository,
+        GameSeqRepository gameSeqRepository,
+        VoiceService voiceService,
+        GamePublisher gamePublisher,
+        GameEventService gameEventService,
+        GameInfoCache gameInfoCache,
+        GameSubscription subscription,
+        ObjectMapper objectMapper,
+        ApplicationEventPublisher applicationEventPublisher,
+        GameTeardownService gameTeardownService,
+        @Qualifier("gameStartExecutor") Executor gameStartExecutor) {
+        this.roomService = roomService;
+        this.gameRepository = gameRepository;
+        this.gameSeqRepository = gameSeqRepository;
+        this.voiceService = voiceService;
+        this.gamePublisher = gamePublisher;
+        this.gameEventService = gameEventService;
+        this.gameInfoCache = gameInfoCache;
+        this.subscription = subscription;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.gameTeardownService = gameTeardownService;
+        this.gameStartExecutor = gameStartExecutor;
+    }
 
     /**
      * 게임 조회
@@ -63,8 +90,57 @@ public class GameService {
      * @throws BusinessException 게임이 존재하지 않을 경우 예외 발생
      */
     public GameInfoDto getGameInfo(Long memberId, long gameId) {
-        Game game = findById(gameId);
-        return new GameInfoDto(memberId, game);
+        return getGameInfo(memberId, gameId, getGameInfoVersion(gameId));
+    }
+
+    /**
+     * 게임 조회 - 상태 순번별로 한 번 만든 공용 정보에 내 정보만 덧붙임
+     *
+     * @param version {@link #getGameInfoVersion} 로 먼저 읽은 상태 순번 (상태는 저장 후 순번이 오르므로 이후에 읽은 상태는 항상
+     *                이 순번 이상)
+     */
+    public GameInfoDto getGameInfo(Long memberId, long gameId, long version) {
+        GameInfoView view = gameInfoCache.get(gameId, version);
+        if (view == null) {
+            view = new GameInfoView(findByIdShared(gameId), version);
+            gameInfoCache.put(view);
+        }
+        GameInfoDto gameInfo = view.toDto(memberId);
+        if (gameInfo == null) {
+            throw new BusinessException(PLAYER_NOT_FOUND);
+        }
+        gameInfo.getMyInfo().setOpenviduToken(voiceService.getToken(gameId, memberId)); // 첫 조회 시 발급
+        return gameInfo;
+    }
+
+    /**
+     * 게임 상태 순번 - 이 노드가 구독 중인 게임은 메모리에서, 아니면 Redis 에서 읽음
+     */
+    public long getGameInfoVersion(long gameId) {
+        Long known = gameInfoCache.getKnownVersion(gameId);
+        return known != null ? known : gameEventService.getSequence(gameId);
+    }
+
+    /**
+     * 재연결 시 놓친 상태 변경분 조회 - 보관 범위를 넘었으면 전체 상태를 함께 반환
+     *
+     * @param afterSeq 클라이언트가 마지막으로 받은 순번
+     */
+    public GameEventsResponse getEventsAfter(Long memberId, long gameId, long afterSeq) {
+        GameEventRange range = gameEventService.findAfter(gameId, afterSeq);
+        if (range.isGap()) {
+            // 순번을 먼저 읽고 상태를 조회하므로 스냅샷은 seq 시점 이후 상태 (이후 변경분을 다시 적용해도 같은 결과)
+            return new GameEventsResponse(range.getSeq(), List.of(), getGameInfo(memberId, gameId, range.getSeq()));
+        }
+        List<JsonNode> events = new ArrayList<>(range.getEvents().size());
+        for (String event : range.getEvents()) {
+            try {
+                events.add(objectMapper.readTree(event));
+            } catch (JsonProcessingException e) {
+                log.error("[Game{}] 변경분 파싱 실패: {}", gameId, e.getMessage());
+            }
+        }
+        return new GameEventsResponse(range.getSeq(), events, null);
     }
 
     /**
@@ -75,7 +151,7 @@ public class GameService {
      * @throws BusinessException 게임이 존재하지 않을 경우 예외 발생
      */
     public EndGameInfoDto getEndGamePlayers(long gameId) {
-        Game game = findById(gameId);
+        Game game = findByIdShared(gameId);
         if(game.getGameStatus() == GameStatus.PLAYING){
             throw new BusinessException(GAME_IS_NOT_END);
         }
@@ -95,46 +171,80 @@ public class GameService {
     }
 
     /**
-     * 게임 시작
+     * 읽기 전용 게임 조회 - 페이즈 전환 직후처럼 같은 게임 조회가 몰릴 때 한 번만 읽음 (반환 객체 수정 금지)
+     */
+    private Game findByIdShared(long gameId) {
+        return gameRepository.findByIdShared(gameId)
+            .orElseThrow(() -> new BusinessException(GAME_NOT_FOUND));
+    }
+
+    /**
+     * 게임 존재 여부 (진행 중인 게임인지 확인)
+     *
+     * @param gameId 방 ID
+     */
+    public boolean existsById(long gameId) {
+        return gameRepository.existsById(gameId);
+    }
+
+    /**
+     * 게임 시작 - 핵심 상태(게임, 페이즈, 타이머) 저장과 채널 구독을 병렬로 처리한 뒤 바로 스케줄러 시작
+     * <p>
+     * 첫 틱은 game-{id}-system 채널로 나가므로 구독이 끝난 뒤 시작 이벤트를 발행합니다. OpenVidu 세션은
+     * {@link VoiceService} 가 미리 만들어 둔 풀에서 배정하고, 음성 토큰은 내 정보 조회 시 지연 발급합니다.
      *
      * @param gameId 방 ID를 그대로 사용한다.
      * @throws BusinessException 이미 시작된 게임이거나 플레이어가 부족할 경우 예외 발생
      */
     public boolean startGame(long gameId) {
+        long requestedAt = System.nanoTime();
         gameRepository.findById(gameId).ifPresent(game -> {
             throw new BusinessException(GAME_ALREADY_START);
         });
-        Game game = makeGame(gameId);
 
+        //Redis 채팅방 생성 (게임 생성, 저장과 병렬)
+        FutureTask<Void> subscribed = new FutureTask<>(() -> subscription.subscribe(gameId), null);
+        gameStartExecutor.execute(subscribed);
+
+        Game game = makeGame(gameId);
         log.info("Game {} created.", gameId);
         game.startGame();
         gameSeqRepository.savePhase(gameId, GamePhase.DAY_DISCUSSION); // 낮 토론 시작
         gameSeqRepository.saveTimer(gameId, game.getSetting().getDayDisTimeSec()); // 설정된 시간
+        gameRepository.save(game);
 
-        // 🔥 OpenVidu 세션 생성
+        awaitSubscribed(subscribed);
         try {
-            String sessionId = voiceService.createSession(gameId);
-            log.info("OpenVidu Session {} created for Game {}", sessionId, gameId);
-
-            // 🔥 모든 플레이어에게 토큰 발급
-            for (Long playerId : game.getPlayers().keySet()) {
-                String token = voiceService.generateToken(gameId, playerId);
-                game.getPlayers().get(playerId).setOpenviduToken(token);
-                log.info("Token issued for Player {}: {}", playerId, token);
-            }
-        } catch (Exception e) {
-            log.error("Failed to create OpenVidu session: {}", e.getMessage());
+            // 순번을 올려 같은 방의 이전 게임 정보(캐시, ETag)가 다시 쓰이지 않게 함
+            gameEventService.publish(gameId, GameEventType.GAME_STARTED, Map.of(), Map.of());
+        } catch (JsonProcessingException e) {
+            log.error("[Game{}] 시작 변경분 발행 실패: {}", gameId, e.getMessage());
         }
-
-        //Redis 채팅방 생성
-        subscription.subscribe(gameId);
-        gameRepository.save(game);
         log.info("Game started in Room {}: Phase set to {}, Timer set to {} seconds",
             gameId, GamePhase.DAY_DISCUSSION, game.getSetting().getDayDisTimeSec());
-        applicationEventPublisher.publishEvent(new GameStartEvent(gameId));
+        applicationEventPublisher.publishEvent(new GameStartEvent(gameId, requestedAt));
         return true;
     }
 
+    /**
+     * 채널 구독 완료 대기 - 풀이 아직 실행하지 못했으면 직접 실행 (빠른 참가처럼 시작 자체가 같은 풀에서 돌 때 풀 스레드끼리
+     * 서로 기다리며 멈추지 않도록)
+     */
+    private void awaitSubscribed(FutureTask<Void> subscribed) {
+        subscribed.run();  // 이미 실행 중이거나 끝났으면 아무것도 하지 않음
+        try {
+            subscribed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게임 채널 구독 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private Game makeGame(long roomId) {
         RoomInfo roominfo = roomService.findById(roomId);
 
@@ -148,53 +258,13 @@ public class GameService {
 
 
     /**
-     * 게임 삭제
+     * 게임 삭제 - 종료 표시만 하고 바로 반환하며 전적 기록, 채널 해제, 세션 종료 등은 {@link GameTeardownService} 가 처리
      *
      * @param gameId 방 ID
      * @throws BusinessException 게임이 존재하지 않을 경우 예외 발생
      */
-    @Transactional
-    public void deleteGame(long gameId, String version) throws JsonProcessingException {
-        Game game = findById(gameId);
-        Optional.ofNullable(gameSeqRepository.getTimer(gameId))
-            .orElseThrow(() -> new BusinessException(PHASE_NOT_FOUND));
-        Optional.ofNullable(gameSeqRepository.getPhase(gameId))
-            .orElseThrow(() -> new BusinessException(PHASE_NOT_FOUND));
-        List<Player> players =  new ArrayList<>(game.getPlayers().values());
-
-        memberService.recordMembers(players, game.getGameStatus());
-
-        GameLog gameLog = new GameLog(gameId, game.getGameStatus(),
-            game.getPlayers().size(), version);
-
-
-        gameLogRepository.save(gameLog);
-
-        // 게임 삭제 로그 전송
-        String jsonMessage = objectMapper.writeValueAsString(
-            Map.of("backroom", true)
-        );
-        gamePublisher.publish("game-" + game.getGameId() + "-system", jsonMessage);
-
-
-        // 게임 스레드 풀 반납
-        applicationEventPublisher.publishEvent(new GameEndEvent(gameId));
-
-        //Redis 채팅 채널 제거
-        subscription.unsubscribe(gameId);
-
-        gameRepository.delete(gameId);
-        gameSeqRepository.delete(gameId);
-
-        // 🔥 OpenVidu 세션 종료
-        try {
-            voiceService.closeSession(gameId);
-            log.info("OpenVidu Session closed for Game {}", gameId);
-        } catch (Exception e) {
-            log.error("Failed to close OpenVidu session: {}", e.getMessage());
-        }
-
-        log.info("Room {} deleted.", gameId);
+    public void deleteGame(long gameId, String version) {
+        gameTeardownService.requestTeardown(gameId, version);
     }
 
     /**
@@ -252,18 +322,15 @@ public class GameService {
         Game game = findById(gameId);
         boolean isKill = game.finalvoteResult();
 
-        String topic = "game-" + gameId + "-system";
-        // JSON 메시지 생성 및 publish
-        String message = objectMapper.writeValueAsString(
-            Map.of("votekill", isKill)
-        );
-        gamePublisher.publish(topic, message);
-
         if (isKill) {
             log.info("[Game{}] Vote Kill!!!!!", gameId);
             gameRepository.save(game);
         }
         else log.info("[Game{}] No one is selected", gameId);
+
+        // 저장 후 발행 - 변경분을 받고 다시 조회한 클라이언트가 이전 상태를 보지 않도록
+        gameEventService.publish(gameId, GameEventType.VOTE_KILL, Map.of("kill", isKill),
+            Map.of("votekill", isKill));
     }
 
 
@@ -273,29 +340,23 @@ public class GameService {
     protected void killPlayer(Game game) throws JsonProcessingException {
         Integer healedPlayer = game.getHealTarget();
         List<Integer> killList = game.killProcess();
+        gameRepository.save(game);
 
-        Map<String, String> message = new HashMap<>();
         //의사
         if (healedPlayer != 0 && killList != null && (killList.isEmpty() || !killList.contains(
             healedPlayer))) {
-            message.put("heal", String.valueOf(healedPlayer));
+            gameEventService.publish(game.getGameId(), GameEventType.PLAYER_HEALED,
+                Map.of("playerNo", healedPlayer), Map.of("heal", String.valueOf(healedPlayer)));
             log.info("Game[{}] 플레이어 " + healedPlayer + " 이(가) 의사의 치료로 살아남았습니다!", healedPlayer);
         }
         // 좀비
         if (killList != null && !killList.isEmpty()) {
-            // JSON 형태로 메시지 구성
             String deaths = killList.stream()
                 .map(String::valueOf)
                 .collect(Collectors.joining(", "));
-            message.put("death", deaths);
-        }
-
-        if (!message.isEmpty()) {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            // Redis Pub/Sub 전송
-            gamePublisher.publish("game-" + game.getGameId() + "-system", jsonMessage);
+            gameEventService.publish(game.getGameId(), GameEventType.PLAYER_DIED,
+                Map.of("playerNos", killList), Map.of("death", deaths));
         }
-        gameRepository.save(game);
     }
 
     /**
@@ -315,24 +376,30 @@ public class GameService {
         if (myrole == Role.ZOMBIE) {
             game.specifyTarget(Role.ZOMBIE, targetNo);
             result = targetNo + "플레이어는 감염 타겟이 되었습니다.";
-            String topic = "game-" + gameId + "-maifa-system";
-            // JSON 메시지 생성 및 publish
-            String message = objectMapper.writeValueAsString(
-                Map.of("zombiepick", targetNo)
-            );
-            gamePublisher.publish(topic, message);
+            // 좀비 채널을 볼 수 있는 플레이어(좀비, 사망자)에게만 전송
+            String mafiaChannel = "game-" + gameId + "-mafia-system";
+            List<Long> receivers = game.getPlayers().entrySet().stream()
+                .filter(entry -> entry.getValue().isSubscribed(mafiaChannel))
+                .map(Map.Entry::getKey)
+                .toList();
+            gamePublisher.publishToPlayers(receivers,
+                objectMapper.writeValueAsString(Map.of("zombiepick", targetNo)));
         } else if (myrole == Role.MUTANT) {
             game.specifyTarget(Role.MUTANT, targetNo);
             result = targetNo + "플레이어는 돌연변이 타겟이 되었습니다.";
         } else if (myrole == Role.POLICE) {
             Role findrole = game.findRole(targetNo);
             result = targetNo + "의 직업은 " + findrole + "입니다.";
+            gamePublisher.publishToPlayers(List.of(playerNo), objectMapper.writeValueAsString(
+                Map.of("investigation", Map.of("targetNo", targetNo, "role", findrole))));
         } else if (myrole == Role.PLAGUE_DOCTOR) {
             if (game.getSetting().getDoctorSkillUsage() == 0) {
                 result = "남은 백신이 없습니다.";
             } else {
                 int heal_cnt = game.heal(targetNo);
                 result = targetNo + "을 살리기로 했습니다. 남은 백신은 " + heal_cnt + "개 입니다.";
+                gamePublisher.publishToPlayers(List.of(playerNo), objectMapper.writeValueAsString(
+                    Map.of("heal", Map.of("targetNo", targetNo, "remaining", heal_cnt))));
             }
         }
 
@@ -0,0 +1,48 @@
+package com.mafia.domain.game.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 시작 지표 - 시작 요청부터 첫 틱 전송까지의 시간을 백분위 히스토그램으로 기록
+ * <p>
+ * 목표 시간(game.start.first-tick-target-ms)을 SLO 경계로 등록하므로 Prometheus 에서 목표 이내 비율을 바로 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class GameStartMetrics {
+
+    private final Timer timeToFirstTick;
+    private final long firstTickTargetMs;
+
+    public GameStartMetrics(MeterRegistry meterRegistry,
+        @Value("${game.start.first-tick-target-ms:500}") long firstTickTargetMs) {
+        this.firstTickTargetMs = firstTickTargetMs;
+        this.timeToFirstTick = Timer.builder("game.start.time_to_first_tick")
+            .description("게임 시작 요청부터 첫 틱 전송까지 걸린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .serviceLevelObjectives(Duration.ofMillis(firstTickTargetMs))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 첫 틱 전송 시점 기록 (서버 재시작 복원처럼 요청 시각이 없으면 기록하지 않음)
+     */
+    public void recordFirstTick(Long gameId, Long requestedAtNanos) {
+        if (requestedAtNanos == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - requestedAtNanos;
+        timeToFirstTick.record(elapsed, TimeUnit.NANOSECONDS);
+        if (TimeUnit.NANOSECONDS.toMillis(elapsed) > firstTickTargetMs) {
+            log.warn("게임 {} 첫 틱 지연 - {}ms (목표 {}ms)", gameId,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), firstTickTargetMs);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.mafia.domain.game.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.GAME_NOT_FOUND;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
+import com.mafia.domain.game.repository.GameRepository;
+import com.mafia.domain.game.repository.GameSeqRepository;
+import com.mafia.domain.game.repository.GameTeardownRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.service.GameSubscription;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게임 정리 파이프라인 - 게임 종료 요청은 "종료됨" 표시만 하고 응답하며, 나머지 정리는 단계별로 백그라운드에서 처리
+ * <p>
+ * 각 단계는 완료 시 Redis 작업 해시에 기록되고 재시도 시 완료된 단계는 건너뜁니다. 전적 기록 단계는 종료 요청 단위로 한 번만
+ * 집계되므로(GameResultService) 기록 직후 노드가 죽어도 두 번 반영되지 않습니다. 게임 키는 마지막 단계에서 지우므로 앞선
+ * 단계들은 언제 재시도해도 게임 데이터를 읽을 수 있습니다.
+ */
+@Slf4j
+@Service
+public class GameTeardownService {
+
+    /**
+     * 정리 단계 (선언 순서대로 실행)
+     */
+    enum Stage {
+        RECORD_STATS,    // 전적, 게임 로그 집계 (Redis 에 쌓은 뒤 MySQL 에 일괄 반영)
+        NOTIFY_END,      // 대기실 복귀 메시지, GameEndEvent (채팅 이관, 방 참여 해제)
+        UNSUBSCRIBE,     // Redis 채팅/시스템 채널 구독 해제
+        CLOSE_VOICE,     // OpenVidu 세션 종료
+        DELETE_STATE     // 게임, 페이즈, 타이머 키 삭제
+    }
+
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final GameTeardownRepository teardownRepository;
+    private final GameRepository gameRepository;
+    private final GameSeqRepository gameSeqRepository;
+    private final GameResultService gameResultService;
+    private final VoiceService voiceService;
+    private final GameEventService gameEventService;
+    private final GameSubscription subscription;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Timer totalTimer;
+    private final int batchSize;
+    private final long leaseMs;
+    private final long retryBaseMs;
+
+    public GameTeardownService(GameTeardownRepository teardownRepository,
+        GameRepository gameRepository,
+        GameSeqRepository gameSeqRepository,
+        GameResultService gameResultService,
+        VoiceService voiceService,
+        GameEventService gameEventService,
+        GameSubscription subscription,
+        ApplicationEventPublisher applicationEventPublisher,
+        MeterRegistry meterRegistry,
+        @Value("${game.teardown.batch-size:20}") int batchSize,
+        @Value("${game.teardown.lease-ms:30000}") long leaseMs,
+        @Value("${game.teardown.retry-base-ms:1000}") long retryBaseMs) {
+        this.teardownRepository = teardownRepository;
+        this.gameRepository = gameRepository;
+        this.gameSeqRepository = gameSeqRepository;
+        this.gameResultService = gameResultService;
+        this.voiceService = voiceService;
+        this.gameEventService = gameEventService;
+        this.subscription = subscription;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.totalTimer = Timer.builder("game.teardown.total")
+            .description("게임 종료 요청부터 모든 정리 단계 완료까지 걸린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.leaseMs = leaseMs;
+        this.retryBaseMs = retryBaseMs;
+    }
+
+    /**
+     * 게임 종료 표시 - 정리 작업을 등록하고 게임 스케줄러를 멈춘 뒤 바로 반환 (같은 게임에 다시 요청해도 무시)
+     */
+    public void requestTeardown(long gameId, String version) {
+        if (teardownRepository.isRequested(gameId)) {
+            return;
+        }
+        if (!gameRepository.existsById(gameId)) {
+            throw new BusinessException(GAME_NOT_FOUND);
+        }
+        if (teardownRepository.request(gameId, System.currentTimeMillis(), version)) {
+            gameSeqRepository.removeActiveGame(gameId);  // 스케줄러 루프 종료 (타이머 전송 중단)
+            log.info("Game {} marked finished - teardown scheduled", gameId);
+        }
+    }
+
+    /**
+     * 실행할 때가 된 정리 작업 처리 (모든 노드에서 실행, 작업 단위로 임대)
+     */
+    @Scheduled(fixedDelayString = "${game.teardown.interval-ms:500}")
+    public void process() {
+        long now = System.currentTimeMillis();
+        for (Long gameId : teardownRepository.claim(now, now + leaseMs, batchSize)) {
+            try {
+                runStages(gameId);
+            } catch (Exception e) {
+                long attempts = teardownRepository.reschedule(gameId, System.currentTimeMillis() + backoff(gameId));
+                log.error("Game {} teardown failed (attempt {}): {}", gameId, attempts, e.getMessage());
+            }
+        }
+    }
+
+    private void runStages(long gameId) throws JsonProcessingException {
+        Map<Object, Object> job = teardownRepository.findJob(gameId);
+        if (job.isEmpty()) {
+            return;  // 다른 노드가 이미 완료
+        }
+        long requestedAt = Long.parseLong((String) job.get(GameTeardownRepository.FIELD_REQUESTED_AT));
+        String version = (String) job.get(GameTeardownRepository.FIELD_VERSION);
+        Game game = gameRepository.findById(gameId).orElse(null);
+
+        for (Stage stage : Stage.values()) {
+            if (job.containsKey(stage.name())) {
+                continue;
+            }
+            long started = System.nanoTime();
+            String outcome = "success";
+            try {
+                runStage(stage, gameId, game, requestedAt, version);
+            } catch (RuntimeException | JsonProcessingException e) {
+                outcome = "failure";
+                throw e;
+            } finally {
+                Timer.builder("game.teardown.stage")
+                    .description("게임 정리 단계별 처리 시간")
+                    .tag("stage", stage.name())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+            teardownRepository.markStageDone(gameId, stage.name());
+        }
+
+        teardownRepository.complete(gameId);
+        totalTimer.record(System.currentTimeMillis() - requestedAt, TimeUnit.MILLISECONDS);
+        log.info("Room {} deleted.", gameId);
+    }
+
+    private void runStage(Stage stage, long gameId, Game game, long requestedAt, String version)
+        throws JsonProcessingException {
+        switch (stage) {
+            case RECORD_STATS -> {
+                if (game == null) {
+                    log.warn("Game {} already removed - skip recording stats", gameId);
+                    return;
+                }
+                gameResultService.recordGame(game, requestedAt, version);
+            }
+            case NOTIFY_END -> {
+                // 게임 삭제 로그 전송
+                gameEventService.publish(gameId, GameEventType.GAME_ENDED, Map.of(), Map.of("backroom", true));
+                // 게임 스레드 풀 반납, 채팅 이관, 방 참여 해제
+                applicationEventPublisher.publishEvent(new GameEndEvent(gameId, requestedAt));
+            }
+            case UNSUBSCRIBE -> subscription.unsubscribe(gameId);
+            case CLOSE_VOICE -> voiceService.closeSession(gameId);
+            case DELETE_STATE -> {
+                gameRepository.delete(gameId);
+                gameSeqRepository.delete(gameId);
+            }
+        }
+    }
+
+    private long backoff(long gameId) {
+        Object attempts = teardownRepository.findJob(gameId).get(GameTeardownRepository.FIELD_ATTEMPTS);
+        int failures = attempts == null ? 0 : Integer.parseInt((String) attempts);
+        return Math.min(retryBaseMs << Math.min(failures, 10), MAX_BACKOFF_MS);
+    }
+}
@@ -0,0 +1,162 @@
+package com.mafia.domain.game.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_FOUND_SESSION;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.VOICE_SERVER_UNAVAILABLE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenVidu REST API 클라이언트 - 요청마다 타임아웃을 걸고, 연속 실패 시 일정 시간 요청을 보내지 않는 서킷 브레이커 적용
+ * <p>
+ * openvidu-java-client 는 세션 객체를 노드 메모리에 들고 있어야 토큰을 발급할 수 있어 여러 노드에서 같은 세션을 다룰 수 없으므로
+ * 세션 ID 만으로 호출할 수 있는 REST API 를 직접 사용합니다.
+ */
+@Slf4j
+@Component
+public class OpenViduClient {
+
+    private static final String SESSIONS_PATH = "/openvidu/api/sessions";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration requestTimeout;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil = 0;
+
+    public OpenViduClient(ObjectMapper objectMapper,
+        @Value("${openvidu.url}") String openviduUrl,
+        @Value("${openvidu.secret}") String secret,
+        @Value("${openvidu.connect-timeout-ms:1000}") long connectTimeoutMs,
+        @Value("${openvidu.request-timeout-ms:2000}") long requestTimeoutMs,
+        @Value("${openvidu.circuit.failure-threshold:5}") int failureThreshold,
+        @Value("${openvidu.circuit.open-ms:10000}") long openMs) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = openviduUrl.endsWith("/") ? openviduUrl.substring(0, openviduUrl.length() - 1) : openviduUrl;
+        this.authorization = "Basic " + Base64.getEncoder()
+            .encodeToString(("OPENVIDUAPP:" + secret).getBytes(StandardCharsets.UTF_8));
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    /**
+     * 세션 생성
+     *
+     * @return 세션 ID
+     */
+    public String createSession() {
+        return send("POST", SESSIONS_PATH, Map.of()).path("id").asText();
+    }
+
+    /**
+     * 세션에 WebRTC 연결을 만들고 토큰 발급
+     *
+     * @throws BusinessException 세션이 없으면 NOT_FOUND_SESSION
+     */
+    public String createToken(String sessionId, String data) {
+        return send("POST", SESSIONS_PATH + "/" + sessionId + "/connection",
+            Map.of("type", "WEBRTC", "data", data)).path("token").asText();
+    }
+
+    /**
+     * 세션 종료 (이미 없는 세션이면 무시)
+     */
+    public void closeSession(String sessionId) {
+        try {
+            send("DELETE", SESSIONS_PATH + "/" + sessionId, null);
+        } catch (BusinessException e) {
+            if (e.getBaseResponseStatus() != NOT_FOUND_SESSION) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 서킷이 닫혀 있거나(정상) 열림 시간이 지나 다시 시도해 볼 수 있는 상태인지 여부
+     */
+    public boolean isAvailable() {
+        return System.currentTimeMillis() >= openUntil;
+    }
+
+    private JsonNode send(String method, String path, Object body) {
+        if (!isAvailable()) {
+            throw new BusinessException(VOICE_SERVER_UNAVAILABLE);  // 서킷 열림 - 요청 없이 바로 실패
+        }
+
+        HttpResponse<String> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? BodyPublishers.noBody()
+                    : BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+            response = httpClient.send(request, BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure(method, path, e.getMessage());
+        } catch (Exception e) {
+            throw failure(method, path, e.getMessage());  // 연결 실패, 타임아웃
+        }
+
+        int status = response.statusCode();
+        if (status == 404) {
+            onSuccess();  // 서버는 정상 응답
+            throw new BusinessException(NOT_FOUND_SESSION);
+        }
+        if (status >= 500) {
+            throw failure(method, path, "HTTP " + status);
+        }
+        onSuccess();
+        if (status >= 400) {
+            log.error("OpenVidu 요청 거절 - {} {}: HTTP {}", method, path, status);
+            throw new BusinessException(VOICE_SERVER_UNAVAILABLE);
+        }
+
+        try {
+            return response.body() == null || response.body().isEmpty()
+                ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+        } catch (Exception e) {
+            throw new BusinessException(VOICE_SERVER_UNAVAILABLE);
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    private BusinessException failure(String method, String path, String reason) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + openMs;
+            log.error("OpenVidu 서킷 열림 ({}회 연속 실패) - {}ms 동안 요청 중단", failures, openMs);
+        }
+        log.warn("OpenVidu 요청 실패 - {} {}: {}", method, path, reason);
+        return new BusinessException(VOICE_SERVER_UNAVAILABLE);
+    }
+}
@@ -2,79 +2,130 @@ package com.mafia.domain.game.service;
 
 import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_FOUND_SESSION;
 
+import com.mafia.domain.game.model.dto.GameStartEvent;
+import com.mafia.domain.game.repository.VoiceSessionRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
-import io.openvidu.java.client.Connection;
-import io.openvidu.java.client.ConnectionProperties;
-import io.openvidu.java.client.ConnectionType;
-import io.openvidu.java.client.OpenVidu;
-import io.openvidu.java.client.OpenViduHttpException;
-import io.openvidu.java.client.OpenViduJavaClientException;
-import io.openvidu.java.client.Session;
-import java.util.HashMap;
-import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 음성 채팅 세션 관리 - 미리 만들어 둔 OpenVidu 세션 풀과 플레이어별 토큰 지연 발급
+ * <p>
+ * 게임 시작 시에는 풀에서 세션 ID 만 꺼내 배정하므로(Redis 만 사용) 미디어 서버가 느려도 게임 시작이 막히지 않습니다.
+ * 토큰은 플레이어가 처음 내 정보(MyInfo)를 조회할 때 발급하고, 세션 배정과 토큰은 Redis 에 두어 어느 노드에서든 조회됩니다.
+ */
+@Slf4j
 @Service
 public class VoiceService {
 
-    @Value("${openvidu.url}") String openviduUrl;
-    @Value("${openvidu.secret}") String secret;
+    private final OpenViduClient openViduClient;
+    private final VoiceSessionRepository voiceSessionRepository;
+    private final int poolSize;
 
-    private final OpenVidu openvidu;
-    private final Map<Long, Session> gameSessions = new HashMap<>(); // 게임별 세션 저장
-    private final Map<Long, Map<Long, String>> playerTokens = new HashMap<>(); // 게임 내 플레이어별 토큰 저장
-
-    // OpenVidu 객체를 생성자에서 초기화
-    public VoiceService(@Value("${openvidu.url}") String openviduUrl, // secret 참조 Value 주입 받은 후 객체 생성
-        @Value("${openvidu.secret}") String secret) {
-        this.openviduUrl = openviduUrl;
-        this.secret = secret;
-        this.openvidu = new OpenVidu(openviduUrl, secret);
+    public VoiceService(OpenViduClient openViduClient,
+        VoiceSessionRepository voiceSessionRepository,
+        @Value("${openvidu.pool.size:5}") int poolSize) {
+        this.openViduClient = openViduClient;
+        this.voiceSessionRepository = voiceSessionRepository;
+        this.poolSize = poolSize;
     }
 
     /**
-     * 게임 시작 시 OpenVidu 세션 생성
+     * 세션 풀 보충 - 미디어 서버 서킷이 열려 있으면 건너뜀
      */
-    protected String createSession(long gameId)
-        throws OpenViduJavaClientException, OpenViduHttpException {
-        Session session = openvidu.createSession();
-        gameSessions.put(gameId, session);
-        playerTokens.put(gameId, new HashMap<>());
-        return session.getSessionId();
+    @Scheduled(fixedDelayString = "${openvidu.pool.refill-interval-ms:5000}")
+    public void refillPool() {
+        int created = 0;
+        try {
+            while (openViduClient.isAvailable() && created < poolSize
+                && voiceSessionRepository.poolSize() < poolSize) {
+                voiceSessionRepository.pushPool(openViduClient.createSession());
+                created++;
+            }
+        } catch (BusinessException e) {
+            log.warn("OpenVidu 세션 풀 보충 실패: {}", e.getMessage());
+        }
+        if (created > 0) {
+            log.info("OpenVidu 세션 풀 보충 - {}개 생성", created);
+        }
     }
 
     /**
-     * 특정 플레이어에게 토큰 발급 (음성 채팅 참여)
+     * 게임 시작 시 풀의 세션 배정 (풀이 비었으면 첫 토큰 요청 때 생성)
      */
-    protected String generateToken(long gameId, long playerNo)
-        throws OpenViduJavaClientException, OpenViduHttpException {
-        if (!gameSessions.containsKey(gameId)) {
-            throw new BusinessException(NOT_FOUND_SESSION);
+    @EventListener
+    public void assignSessionOnGameStart(GameStartEvent event) {
+        long gameId = event.getGameId();
+        String sessionId = voiceSessionRepository.popPool();
+        if (sessionId == null) {
+            log.info("OpenVidu 세션 풀 비어 있음 - Game {} 세션은 첫 토큰 요청 때 생성", gameId);
+            return;
         }
+        if (!voiceSessionRepository.assignSession(gameId, sessionId)) {
+            voiceSessionRepository.pushPool(sessionId);
+        }
+    }
 
-        Session session = gameSessions.get(gameId);
-        ConnectionProperties properties = new ConnectionProperties.Builder()
-            .type(ConnectionType.WEBRTC)
-            .data("Player " + playerNo)
-            .build();
-
-        Connection connection = session.createConnection(properties);
-        String token = connection.getToken();
-        playerTokens.get(gameId).put(playerNo, token);
+    /**
+     * 플레이어 토큰 조회 - 없으면 발급 (음성 서버 장애 시 null, 클라이언트가 다시 조회)
+     */
+    public String getToken(long gameId, long memberId) {
+        String token = voiceSessionRepository.findToken(gameId, memberId);
+        if (token != null) {
+            return token;
+        }
 
-        return token;
+        try {
+            String sessionId = getOrAssignSession(gameId);
+            try {
+                token = openViduClient.createToken(sessionId, "Player " + memberId);
+            } catch (BusinessException e) {
+                if (e.getBaseResponseStatus() != NOT_FOUND_SESSION) {
+                    throw e;
+                }
+                // 미디어 서버 재시작 등으로 사라진 세션 - 새 세션으로 교체 후 한 번만 재시도
+                String newSessionId = openViduClient.createSession();
+                voiceSessionRepository.replaceSession(gameId, sessionId, newSessionId);
+                token = openViduClient.createToken(voiceSessionRepository.findSessionId(gameId),
+                    "Player " + memberId);
+            }
+            return voiceSessionRepository.saveToken(gameId, memberId, token);
+        } catch (BusinessException e) {
+            log.warn("OpenVidu 토큰 발급 실패 - Game {}, member {}: {}", gameId, memberId, e.getMessage());
+            return null;
+        }
     }
 
     /**
      * 게임 종료 시 OpenVidu 세션 종료
      */
-    protected void closeSession(long gameId)
-        throws OpenViduJavaClientException, OpenViduHttpException {
-        if (gameSessions.containsKey(gameId)) {
-            gameSessions.get(gameId).close();
-            gameSessions.remove(gameId);
-            playerTokens.remove(gameId);
+    protected void closeSession(long gameId) {
+        String sessionId = voiceSessionRepository.removeGame(gameId);
+        if (sessionId != null) {
+            openViduClient.closeSession(sessionId);
+        }
+    }
+
+    /**
+     * 게임에 배정된 세션 조회 - 없으면 풀에서 꺼내거나 새로 생성 (다른 노드와 동시에 배정하면 먼저 배정된 세션 사용)
+     */
+    private String getOrAssignSession(long gameId) {
+        String sessionId = voiceSessionRepository.findSessionId(gameId);
+        if (sessionId != null) {
+            return sessionId;
+        }
+
+        String candidate = voiceSessionRepository.popPool();
+        if (candidate == null) {
+            candidate = openViduClient.createSession();
+        }
+        if (voiceSessionRepository.assignSession(gameId, candidate)) {
+            return candidate;
         }
+        voiceSessionRepository.pushPool(candidate);  // 쓰지 않은 세션은 풀로 반납
+        return voiceSessionRepository.findSessionId(gameId);
     }
 }
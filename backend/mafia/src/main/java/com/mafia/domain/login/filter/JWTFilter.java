@@ -1,9 +1,9 @@
 package com.mafia.domain.login.filter;
 
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
+import com.mafia.domain.login.service.GuestActivityService;
 import com.mafia.domain.member.model.dto.MemberDTO;
-import com.mafia.domain.member.repository.MemberRepository;
-import com.mafia.global.common.service.RedisService;
+import com.mafia.global.common.utils.JWTClaims;
 import com.mafia.global.common.utils.JWTUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,7 +11,6 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,11 +25,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final MemberRepository memberRepository;
-    private final RedisService redisService;
-
-    private static final String ACTIVITY_KEY_PREFIX = "guest_activity:";
-    private static final int UPDATE_INTERVAL = 1800; // 30분 (초 단위)
+    private final GuestActivityService guestActivityService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -40,31 +35,21 @@ public class JWTFilter extends OncePerRequestFilter {
         // 쿠키에서 토큰 추출
         String authorization = extractTokenFromCookies(request.getCookies());
 
-        // 토큰이 없거나 만료된 경우 다음 필터로 진행
-        if (authorization == null || jwtUtil.isExpired(authorization)) {
+        // 토큰 검증은 한 번만 (검증된 토큰은 캐시에서 조회)
+        JWTClaims claims = authorization == null ? null : jwtUtil.parse(authorization);
+
+        // 토큰이 없거나 만료/위조된 경우 다음 필터로 진행
+        if (claims == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        // JWT 토큰에서 사용자 정보 추출
-        String providerId = jwtUtil.getProviderId(authorization);
-        Long memberId = jwtUtil.getMemberId(authorization);
+        String providerId = claims.getProviderId();
+        Long memberId = claims.getMemberId();
 
-        // 게스트 사용자인 경우에만 활동 시간 업데이트 처리
+        // 게스트 사용자인 경우에만 활동 시간 기록 (메모리에만 기록, MySQL 반영은 주기적으로 일괄 처리)
         if (providerId.startsWith("guest_")) {
-            String activityKey = ACTIVITY_KEY_PREFIX + providerId;
-            String lastUpdate = redisService.get(activityKey, String.class).orElse(null);
-
-            if (lastUpdate == null) {
-                memberRepository.findById(memberId).ifPresent(member -> {
-                    member.updateLastActivityTime();
-                    memberRepository.save(member);
-                });
-                redisService.saveWithExpiry(activityKey,
-                    String.valueOf(System.currentTimeMillis()),
-                    UPDATE_INTERVAL,
-                    TimeUnit.SECONDS);
-            }
+            guestActivityService.touch(memberId);
         }
 
         // 사용자 정보로 MemberDTO 생성
@@ -1,36 +1,251 @@
 package com.mafia.domain.login.scheduler;
 
-import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.login.service.GuestActivityService;
+import com.mafia.domain.member.model.dto.GuestAccount;
+import com.mafia.domain.member.repository.GuestRedisRepository;
+import com.mafia.domain.member.repository.LeaderboardRedisRepository;
 import com.mafia.domain.member.repository.MemberRepository;
+import com.mafia.domain.room.service.RoomDbService;
+import com.mafia.domain.room.service.RoomMessageService;
+import com.mafia.domain.room.service.RoomRedisService;
+import com.mafia.global.common.exception.exception.BusinessException;
 import com.mafia.global.common.service.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 비활성 게스트 계정 정리 - memberId 순 키셋 페이지로 일정 개수씩 처리
+ * <p>
+ * 한 묶음마다 ID 와 providerId 만 조회하고, 게임 중인 방에 앉아 있는 게스트는 다음 정리 때까지 남겨 둡니다. 삭제 직전 같은
+ * 트랜잭션에서 비활성 여부를 다시 확인해 잠근 행만 한 번에 DELETE 하고, 실제로 삭제된 게스트만 Redis 키(리프레시 토큰, 순위)를
+ * 파이프라인으로 지우고 대기실에서 퇴장시킵니다(방장이면 방 삭제).
+ * <p>
+ * 새 게스트는 Redis 에만 저장되어 TTL 로 만료되므로, 위 작업은 MySQL 에 남아 있는 이전 게스트 계정만 정리합니다. 만료된
+ * Redis 게스트는 키만 사라지고 대기실 좌석과 참여 역인덱스(rooms:member-index)가 남으므로, 역인덱스에서 예약 범위 ID 중
+ * guest:{id} 가 없는 유저를 따로 찾아 같은 방식으로 퇴장시킵니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class GuestAccountCleaner {
 
+    private static final long INACTIVE_MINUTES = 30;
+
     private final MemberRepository memberRepository;
+    private final GuestRedisRepository guestRedisRepository;
     private final RedisService redisService;
+    private final LeaderboardRedisRepository leaderboardRepository;
+    private final GuestActivityService guestActivityService;
+    private final RoomRedisService roomRedisService;
+    private final RoomDbService roomDbService;
+    private final RoomMessageService roomMessageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Counter releasedCounter;
+    private final Counter expiredCounter;
+    private final Counter skippedInGameCounter;
+    private final Timer chunkTimer;
+    private final Timer runTimer;
+    private final AtomicLong lastScannedId = new AtomicLong();
+
+    public GuestAccountCleaner(MemberRepository memberRepository,
+        GuestRedisRepository guestRedisRepository,
+        RedisService redisService,
+        LeaderboardRedisRepository leaderboardRepository,
+        GuestActivityService guestActivityService,
+        RoomRedisService roomRedisService,
+        RoomDbService roomDbService,
+        RoomMessageService roomMessageService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${guest.cleanup.chunk-size:500}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.guestRedisRepository = guestRedisRepository;
+        this.redisService = redisService;
+        this.leaderboardRepository = leaderboardRepository;
+        this.guestActivityService = guestActivityService;
+        this.roomRedisService = roomRedisService;
+        this.roomDbService = roomDbService;
+        this.roomMessageService = roomMessageService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+
+        this.scannedCounter = guestCounter(meterRegistry, "scanned");
+        this.deletedCounter = guestCounter(meterRegistry, "deleted");
+        this.releasedCounter = guestCounter(meterRegistry, "released_from_room");
+        this.expiredCounter = guestCounter(meterRegistry, "expired_in_room");
+        this.skippedInGameCounter = guestCounter(meterRegistry, "skipped_in_game");
+        this.chunkTimer = Timer.builder("guest.cleanup.chunk")
+            .description("게스트 정리 한 묶음 처리 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("guest.cleanup.run")
+            .description("게스트 정리 1회 전체 처리 시간")
+            .register(meterRegistry);
+        meterRegistry.gauge("guest.cleanup.last_scanned_id", lastScannedId);
+    }
 
-    private static final String ACTIVITY_KEY_PREFIX = "guest_activity:";
-    
     @Scheduled(fixedRate = 1800000) // 30분마다 실행
     public void cleanupGuestAccounts() {
-        LocalDateTime inactiveThreshold = LocalDateTime.now().minusMinutes(30);
+        // 이 노드에 쌓인 활동 시각부터 반영 (다른 노드 기록은 반영 주기 이내로만 늦음)
+        guestActivityService.flush();
+        LocalDateTime inactiveThreshold = LocalDateTime.now().minusMinutes(INACTIVE_MINUTES);
+
+        runTimer.record(() -> {
+            long afterId = 0;
+            long deleted = 0;
+            List<GuestAccount> chunk;
+            do {
+                // 마지막 활동 시간이 30분 이상 지난 게스트 ID 를 한 묶음씩 조회
+                chunk = memberRepository.findInactiveGuestAccounts(inactiveThreshold, afterId,
+                    PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<GuestAccount> current = chunk;
+                deleted += chunkTimer.record(() -> cleanupChunk(current, inactiveThreshold));
+                afterId = chunk.get(chunk.size() - 1).getMemberId();
+                lastScannedId.set(afterId);
+            } while (chunk.size() == chunkSize);
 
-        // 마지막 활동 시간이 30분 이상 지난 게스트 계정 조회
-        List<Member> inactiveGuests = memberRepository.findInactiveGuestAccounts(inactiveThreshold);
+            log.info("게스트 계정 정리 완료 - 삭제: {}명", deleted);
+        });
+    }
 
-        for (Member guest : inactiveGuests) {
-            // Redis에서 토큰 제거
-            redisService.delete(guest.getProviderId());
-            redisService.delete(ACTIVITY_KEY_PREFIX + guest.getProviderId());
-            // DB에서 게스트 계정 제거
-            memberRepository.delete(guest);
+    /**
+     * 만료된 Redis 게스트의 좌석 정리 - 역인덱스의 예약 범위 ID 중 guest:{id} 가 사라진 유저를 퇴장 (방장이면 방 삭제)
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void releaseExpiredGuests() {
+        Map<Long, Long> seated = roomRedisService.findRoomIdsByMemberIdAbove(GuestRedisRepository.GUEST_ID_BASE);
+        List<Long> memberIds = new ArrayList<>(seated.keySet());
+        long released = 0;
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            List<Long> expired = guestRedisRepository.findExpired(
+                memberIds.subList(from, Math.min(from + chunkSize, memberIds.size())));
+            if (expired.isEmpty()) {
+                continue;
+            }
+            Map<Long, Long> expiredSeated = new HashMap<>();
+            expired.forEach(memberId -> expiredSeated.put(memberId, seated.get(memberId)));
+
+            Set<Long> releasable = new HashSet<>(expired);
+            releasable.removeAll(findInGame(expiredSeated));
+            releaseSeats(expiredSeated, releasable);
+
+            expiredCounter.increment(releasable.size());
+            released += releasable.size();
+        }
+        if (released > 0) {
+            log.info("만료된 게스트 좌석 정리 완료 - 퇴장: {}명", released);
         }
     }
+
+    /**
+     * 한 묶음 정리
+     *
+     * @return 삭제한 게스트 수
+     */
+    private long cleanupChunk(List<GuestAccount> chunk, LocalDateTime inactiveThreshold) {
+        scannedCounter.increment(chunk.size());
+
+        List<Long> memberIds = chunk.stream().map(GuestAccount::getMemberId).toList();
+        Map<Long, Long> seated = roomRedisService.findRoomIdsByMemberIds(memberIds);
+        Set<Long> inGame = findInGame(seated);
+        List<Long> candidates = memberIds.stream().filter(memberId -> !inGame.contains(memberId)).toList();
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // 그 사이 활동한 게스트는 빼고 삭제 (잠근 행만 삭제하므로 삭제된 ID 를 정확히 앎)
+        List<Long> deletedIds = transactionTemplate.execute(status -> {
+            List<Long> locked = memberRepository.lockInactiveGuestIds(candidates, inactiveThreshold);
+            if (!locked.isEmpty()) {
+                memberRepository.deleteAllByMemberIdIn(locked);
+            }
+            return locked;
+        });
+        if (deletedIds == null || deletedIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> deletedSet = new HashSet<>(deletedIds);
+        List<String> tokenKeys = new ArrayList<>(deletedIds.size());
+        for (GuestAccount guest : chunk) {
+            if (deletedSet.contains(guest.getMemberId())) {
+                tokenKeys.add(guest.getProviderId());  // 리프레시 토큰 키
+            }
+        }
+        redisService.deleteAll(tokenKeys);
+        leaderboardRepository.removeMembers(deletedIds);
+        releaseSeats(seated, deletedSet);
+
+        deletedCounter.increment(deletedIds.size());
+        return deletedIds.size();
+    }
+
+    /**
+     * 게임 중인 방에 앉아 있는 게스트 - 게임이 끝난 뒤 다음 정리 때 처리
+     */
+    private Set<Long> findInGame(Map<Long, Long> seated) {
+        Set<Long> inGame = new HashSet<>();
+        seated.forEach((memberId, roomId) -> {
+            try {
+                if (roomRedisService.findByIdShared(roomId).isActive()) {
+                    inGame.add(memberId);
+                    skippedInGameCounter.increment();
+                }
+            } catch (BusinessException e) {
+                log.warn("게스트 {} 의 방 {} 조회 실패 (이미 없는 방): {}", memberId, roomId, e.getMessage());
+            }
+        });
+        return inGame;
+    }
+
+    /**
+     * 삭제된 게스트를 대기실에서 퇴장 (방장이면 방 삭제)
+     */
+    private void releaseSeats(Map<Long, Long> seated, Set<Long> deletedIds) {
+        seated.forEach((memberId, roomId) -> {
+            if (!deletedIds.contains(memberId)) {
+                return;
+            }
+            try {
+                boolean isHost = roomRedisService.isHost(roomId, memberId);
+                roomRedisService.leaveRoom(roomId, memberId);
+                if (isHost) {
+                    roomDbService.deleteRoom(roomId);
+                } else {
+                    roomMessageService.sendRoomUpdate(roomId);
+                }
+                releasedCounter.increment();
+            } catch (BusinessException e) {
+                log.warn("게스트 {} 방 {} 퇴장 실패: {}", memberId, roomId, e.getMessage());
+            }
+        });
+    }
+
+    private Counter guestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("guest.cleanup.members")
+            .description("게스트 정리 처리 인원")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
 }
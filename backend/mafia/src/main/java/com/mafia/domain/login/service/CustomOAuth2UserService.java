@@ -6,6 +6,8 @@ import com.mafia.domain.login.model.dto.NaverResponse;
 import com.mafia.domain.login.model.dto.OAuth2Response;
 import com.mafia.domain.member.model.dto.MemberDTO;
 import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.redis.GuestProfile;
+import com.mafia.domain.member.repository.GuestRedisRepository;
 import com.mafia.domain.member.repository.MemberRepository;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final GuestRedisRepository guestRepository;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -56,16 +59,16 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         return new AuthenticatedUser(MemberDTO.from(member));
     }
 
-    public AuthenticatedUser createGuestUser() {
+    /**
+     * 게스트 생성 - Redis 에만 저장 (예약 범위 ID, 마지막 활동 후 TTL 이 지나면 만료)
+     */
+    public GuestProfile createGuestUser() {
         String uuid = UUID.randomUUID().toString();
         String guestProviderId = "guest_" + uuid.substring(0, 8);
         String guestEmail = "guest_" + uuid.substring(0, 5) + "@guest.com";
         String guestNickname = "생존자_" + uuid.substring(0, 5);
 
-        Member guestMember = Member.of(guestProviderId, guestNickname, guestEmail);
-        Member savedMember = memberRepository.save(guestMember);
-
-        return new AuthenticatedUser(MemberDTO.from(savedMember));
+        return guestRepository.create(guestProviderId, guestEmail, guestNickname);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.mafia.domain.login.service;
+
+import com.mafia.domain.member.repository.GuestRedisRepository;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게스트 활동 시간 기록 - 요청 처리 중에는 메모리(memberId -> 마지막 요청 시각)에만 기록하고 주기적으로 일괄 반영
+ * <p>
+ * 인증 필터가 Redis, MySQL 을 기다리지 않습니다. Redis 게스트는 만료 시각을 연장하고(PEXPIRE), 이전에 MySQL 에 만들어진
+ * 게스트는 여러 노드가 같은 회원을 반영해도 더 늦은 시각만 남도록 GREATEST 로 갱신합니다. 노드가 죽으면 마지막 반영 이후의
+ * 활동 시각(최대 반영 주기만큼)만 잃습니다.
+ */
+@Slf4j
+@Service
+public class GuestActivityService {
+
+    private static final String UPDATE_ACTIVITY_SQL =
+        "UPDATE member SET last_activity_time = GREATEST(COALESCE(last_activity_time, ?), ?) WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GuestRedisRepository guestRepository;
+    private final int batchSize;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public GuestActivityService(JdbcTemplate jdbcTemplate,
+        GuestRedisRepository guestRepository,
+        @Value("${guest.activity.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.guestRepository = guestRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게스트 요청 기록 (메모리만 사용)
+     */
+    public void touch(Long memberId) {
+        pending.merge(memberId, System.currentTimeMillis(), Math::max);
+    }
+
+    /**
+     * 쌓인 활동 시각을 Redis(만료 연장), MySQL 에 일괄 반영 (실패하면 다음 주기에 다시 반영)
+     */
+    @Scheduled(fixedDelayString = "${guest.activity.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 항목 단위로 꺼내므로 꺼내는 도중 들어온 기록도 잃지 않음 (다음 주기에 반영)
+        Map<Long, Long> batch = new HashMap<>();
+        for (Long memberId : pending.keySet()) {
+            Long lastSeen = pending.remove(memberId);
+            if (lastSeen != null) {
+                batch.put(memberId, lastSeen);
+            }
+        }
+
+        List<Long> redisGuests = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((memberId, lastSeen) -> {
+            if (GuestRedisRepository.isGuest(memberId)) {
+                redisGuests.add(memberId);
+                return;
+            }
+            Timestamp time = new Timestamp(lastSeen);
+            rows.add(new Object[]{time, time, memberId});
+        });
+
+        try {
+            guestRepository.touch(redisGuests);
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(UPDATE_ACTIVITY_SQL,
+                    rows.subList(from, Math.min(from + batchSize, rows.size())));
+            }
+            log.debug("게스트 활동 시간 반영 - Redis: {}명, MySQL: {}명", redisGuests.size(), rows.size());
+        } catch (Exception e) {
+            batch.forEach((memberId, lastSeen) -> pending.merge(memberId, lastSeen, Math::max));
+            log.error("게스트 활동 시간 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
@@ -6,10 +6,13 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.REFRESH_TOKEN
 import static com.mafia.global.common.model.dto.BaseResponseStatus.REFRESH_TOKEN_NOT_FOUND;
 
 import com.mafia.domain.login.model.dto.ReissueDto;
-import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.dto.MemberDTO;
+import com.mafia.domain.member.repository.GuestRedisRepository;
 import com.mafia.domain.member.repository.MemberRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
 import com.mafia.global.common.service.RedisService;
+import com.mafia.global.common.service.StompSessionDeadline;
+import com.mafia.global.common.utils.JWTClaims;
 import com.mafia.global.common.utils.JWTUtil;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -27,9 +30,11 @@ public class JWTService {
     private final JWTUtil jwtUtil;
     private final RedisService redisService;
     private final MemberRepository memberRepository;
+    private final GuestRedisRepository guestRepository;
+    private final StompSessionDeadline stompSessionDeadline;
 
     public ReissueDto reissueTokens(String oldRefresh) {
-        Member member = validateRefreshToken(oldRefresh);
+        MemberDTO member = validateRefreshToken(oldRefresh);
 
         String newAccess = jwtUtil.createAccessToken(member.getProviderId(), member.getMemberId());
         String newRefresh = jwtUtil.createRefreshToken(member.getProviderId(),
@@ -43,6 +48,11 @@ public class JWTService {
             // 일반 유저의 경우 7일 만료
             redisService.saveWithExpiry(member.getProviderId(), newRefresh, 7, TimeUnit.DAYS);
         }
+        // 연결 중인 STOMP 세션도 새 액세스 토큰 만료 시각까지 유지 (다시 연결하지 않아도 됨)
+        JWTClaims newClaims = jwtUtil.parse(newAccess);
+        if (newClaims != null) {
+            stompSessionDeadline.extend(member.getMemberId(), newClaims.getExpiresAt());
+        }
         return ReissueDto.builder()
             .newAccessToken(newAccess)
             .newRefreshToken(newRefresh)
@@ -50,23 +60,31 @@ public class JWTService {
             .build();
     }
 
-    private Member validateRefreshToken(String oldRefresh) {
+    private MemberDTO validateRefreshToken(String oldRefresh) {
         if (oldRefresh == null) {
             throw new BusinessException(REFRESH_TOKEN_NOT_FOUND);
         }
 
-        if (jwtUtil.isExpired(oldRefresh)) {
+        JWTClaims claims = jwtUtil.parse(oldRefresh);
+        if (claims == null) {  // 만료 또는 위조
             throw new BusinessException(REFRESH_TOKEN_EXPIRED);
         }
 
-        String providerId = jwtUtil.getProviderId(oldRefresh);
+        String providerId = claims.getProviderId();
         Optional<String> savedRefresh = redisService.get(providerId, String.class);
 
         if (savedRefresh.isEmpty() || !oldRefresh.equals(savedRefresh.get())) {
             throw new BusinessException(INVALID_REFRESH_TOKEN);
         }
 
+        // Redis 게스트는 만료되지 않았을 때만 재발급
+        if (GuestRedisRepository.isGuest(claims.getMemberId())) {
+            return Optional.ofNullable(guestRepository.findById(claims.getMemberId()))
+                .map(MemberDTO::from)
+                .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+        }
         return memberRepository.findByProviderId(providerId)
+            .map(MemberDTO::from)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
     }
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.mafia.domain.login.service;
 
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
+import com.mafia.domain.member.model.dto.MemberDTO;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
-import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.member.model.redis.GuestProfile;
 import com.mafia.global.common.service.RedisService;
 import com.mafia.global.common.utils.CookieUtil;
 import com.mafia.global.common.utils.JWTUtil;
@@ -19,17 +20,17 @@ public class LoginService {
     private final RedisService redisService;
     private final JWTUtil jwtUtil;
     private final CookieUtil cookieUtil;
-    private final MemberService memberService;
 
     public MemberResponse guestLogin(HttpServletResponse response) {
-        // 게스트 사용자 생성 및 인증
-        AuthenticatedUser authenticatedUser = customOAuth2UserService.createGuestUser();
+        // 게스트 사용자 생성 및 인증 (Redis 에만 저장, MySQL 을 거치지 않음)
+        GuestProfile guest = customOAuth2UserService.createGuestUser();
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(MemberDTO.from(guest));
 
         // 토큰 생성 및 쿠키 설정
         setTokens(authenticatedUser, response);
 
-        // 회원 정보 조회
-        return memberService.getMemberInfo(authenticatedUser.getMemberId());
+        // 방금 만든 정보로 응답 (다시 조회하지 않음)
+        return MemberResponse.from(guest);
     }
 
     private void setTokens(AuthenticatedUser user, HttpServletResponse response) {
@@ -1,6 +1,6 @@
 package com.mafia.domain.mattermost;
 
-import com.google.gson.Gson;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.mattermost.dto.MatterMostMessageDTO;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -18,6 +18,7 @@ public class MatterMostSender {
     private final Logger log = LoggerFactory.getLogger(MatterMostSender.class);
     private final RestTemplate restTemplate;
     private final MattermostProperties mmProperties;
+    private final ObjectMapper objectMapper;
 
     public void sendMessage(Exception exception, String uri, String params) {
         if (!mmProperties.isMmEnabled()) {
@@ -40,7 +41,7 @@ public class MatterMostSender {
             MatterMostMessageDTO.Attachments attachments = new MatterMostMessageDTO.Attachments(
                 attachment);
             attachments.addProps(exception);
-            String payload = new Gson().toJson(attachments);
+            String payload = objectMapper.writeValueAsString(attachments);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -1,6 +1,8 @@
 package com.mafia.domain.mattermost.dto;
 
-import com.google.gson.annotations.SerializedName;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -12,7 +14,9 @@ import lombok.NoArgsConstructor;
 
 public class MatterMostMessageDTO {
 
+    // null 필드는 보내지 않음 (이전 Gson 직렬화와 같은 결과)
     @Getter
+    @JsonInclude(Include.NON_NULL)
     public static class Attachments {
 
         private Props props;
@@ -28,6 +32,7 @@ public class MatterMostMessageDTO {
     }
 
     @Getter
+    @JsonInclude(Include.NON_NULL)
     @AllArgsConstructor
     @Builder
     public static class Attachment {
@@ -36,7 +41,7 @@ public class MatterMostMessageDTO {
         private String pretext;
         private String color;
 
-        @SerializedName("author_name")
+        @JsonProperty("author_name")
         private String authorName;
 
 
@@ -65,6 +70,7 @@ public class MatterMostMessageDTO {
     }
 
     @Getter
+    @JsonInclude(Include.NON_NULL)
     @NoArgsConstructor
     public static class Props {
 
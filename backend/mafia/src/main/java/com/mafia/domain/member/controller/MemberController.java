@@ -1,9 +1,14 @@
 package com.mafia.domain.member.controller;
 
+import com.mafia.domain.game.model.game.Role;
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
 import com.mafia.domain.member.model.dto.request.NicknameRequest;
+import com.mafia.domain.member.model.dto.response.LeaderboardResponse;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.model.dto.response.NicknameResponse;
+import com.mafia.domain.member.model.dto.response.RankResponse;
+import com.mafia.domain.member.model.enumerate.LeaderboardType;
+import com.mafia.domain.member.service.LeaderboardService;
 import com.mafia.domain.member.service.MemberService;
 import com.mafia.global.common.model.dto.BaseResponse;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
+    private final LeaderboardService leaderboardService;
 
     //회원 조회
     @GetMapping
@@ -42,4 +48,23 @@ public class MemberController {
         memberService.updateStatusMember(detail.getMemberId());
         return ResponseEntity.ok(new BaseResponse<>());
     }
-}
\ No newline at end of file
+
+    //리더보드 조회 (type: WINS, WIN_RATE, ROLE_WINS - ROLE_WINS 는 role 필수)
+    @GetMapping("/leaderboard")
+    public ResponseEntity<BaseResponse<LeaderboardResponse>> getLeaderboard(
+            @RequestParam(defaultValue = "WINS") LeaderboardType type,
+            @RequestParam(required = false) Role role,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new BaseResponse<>(leaderboardService.getLeaderboard(type, role, page, size)));
+    }
+
+    //내 순위 조회
+    @GetMapping("/leaderboard/me")
+    public ResponseEntity<BaseResponse<RankResponse>> getMyRank(
+            @AuthenticationPrincipal AuthenticatedUser detail,
+            @RequestParam(defaultValue = "WINS") LeaderboardType type,
+            @RequestParam(required = false) Role role) {
+        return ResponseEntity.ok(new BaseResponse<>(leaderboardService.getMyRank(detail.getMemberId(), type, role)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.mafia.domain.member.model.dto;
+
+/**
+ * 게스트 정리용 조회 결과 (ID, providerId 만)
+ */
+public interface GuestAccount {
+
+    Long getMemberId();
+
+    String getProviderId();
+}
@@ -1,6 +1,7 @@
 package com.mafia.domain.member.model.dto;
 
 import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.redis.GuestProfile;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,4 +32,13 @@ public class MemberDTO {
                 .build();
     }
 
+    public static MemberDTO from(GuestProfile guest) {
+        return MemberDTO.builder()
+                .memberId(guest.getMemberId())
+                .providerId(guest.getProviderId())
+                .email(guest.getEmail())
+                .nickname(guest.getNickname())
+                .build();
+    }
+
 }
\ No newline at end of file
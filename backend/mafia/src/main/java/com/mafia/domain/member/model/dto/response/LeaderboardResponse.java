@@ -0,0 +1,18 @@
+package com.mafia.domain.member.model.dto.response;
+
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.member.model.enumerate.LeaderboardType;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardResponse {
+
+    private LeaderboardType type;
+    private Role role;  // ROLE_WINS 일 때만
+    private int page;
+    private int size;
+    private List<RankResponse> ranks;
+}
@@ -1,6 +1,7 @@
 package com.mafia.domain.member.model.dto.response;
 
 import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.redis.GuestProfile;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -17,4 +18,11 @@ public class MemberResponse {
         response.setNickname(member.getNickname()); // Member 클래스에 getNickname() 메서드가 있어야 합니다.
         return response;
     }
+
+    public static MemberResponse from(GuestProfile guest) {
+        MemberResponse response = new MemberResponse();
+        response.setEmail(guest.getEmail());
+        response.setNickname(guest.getNickname());
+        return response;
+    }
 }
@@ -0,0 +1,14 @@
+package com.mafia.domain.member.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankResponse {
+
+    private Long rank;  // 1위부터, 순위에 없으면 null
+    private Long memberId;
+    private String nickname;
+    private Double score;  // 승리 수 또는 승률(0 ~ 1)
+}
@@ -0,0 +1,23 @@
+package com.mafia.domain.member.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MySQL 에 반영된 승패 묶음 기록 - 승패 UPDATE 와 같은 트랜잭션에 INSERT 되어, 커밋 후 Redis 정리 전에 노드가 죽어도 같은 묶음이
+ * 두 번 반영되지 않게 합니다. (오래된 기록은 주기적으로 삭제)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStatFlush {
+
+    @Id
+    private String flushId;
+
+    private LocalDateTime appliedAt;
+}
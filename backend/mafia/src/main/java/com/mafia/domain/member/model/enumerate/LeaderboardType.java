@@ -0,0 +1,7 @@
+package com.mafia.domain.member.model.enumerate;
+
+public enum LeaderboardType {
+    WINS,       // 누적 승리 수
+    WIN_RATE,   // 승률 (최소 판 수 이상)
+    ROLE_WINS   // 직업별 승리 수
+}
@@ -0,0 +1,21 @@
+package com.mafia.domain.member.model.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 에만 저장되는 게스트 회원 정보 (MySQL member 행 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestProfile {
+
+    private Long memberId;
+    private String providerId;
+    private String email;
+    private String nickname;
+    private long win;
+    private long lose;
+}
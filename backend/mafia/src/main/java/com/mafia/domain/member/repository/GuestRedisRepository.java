@@ -0,0 +1,213 @@
+package com.mafia.domain.member.repository;
+
+import com.mafia.domain.member.model.redis.GuestProfile;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게스트 회원 저장소 (Redis 전용 - MySQL 에는 행을 만들지 않음)
+ * <pre>
+ * guest:{memberId}     HASH    providerId, email, nickname, win, lose (마지막 활동 후 TTL 이 지나면 만료)
+ * guest:id-seq         STRING  게스트 ID 카운터 (GUEST_ID_BASE 위의 예약 범위에서 발급)
+ * guest-stats:recorded:{gameId}:{requestedAt}  STRING  같은 종료 요청을 두 번 집계하지 않기 위한 표시 (1일)
+ * </pre>
+ */
+@Repository
+public class GuestRedisRepository {
+
+    // MySQL IDENTITY 가 닿지 않으면서 JS 정수 정밀도(2^53) 안에 있는 범위
+    public static final long GUEST_ID_BASE = 1_000_000_000_000L;
+
+    private static final String KEY_PREFIX = "guest:";
+    private static final String ID_SEQ_KEY = "guest:id-seq";
+    private static final String PROVIDER_ID = "providerId";
+    private static final String EMAIL = "email";
+    private static final String NICKNAME = "nickname";
+    private static final String WIN = "win";
+    private static final String LOSE = "lose";
+    private static final long RECORDED_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+
+    // KEYS: guest / ARGV: ttlMs, providerId, email, nickname
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('HSET', KEYS[1], 'providerId', ARGV[2], 'email', ARGV[3], 'nickname', ARGV[4], 'win', 0, 'lose', 0)
+        redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        return 1
+        """, Long.class);
+
+    // KEYS: guest / ARGV: ttlMs, nickname -> 만료된 게스트면 0
+    private static final RedisScript<Long> UPDATE_NICKNAME_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+        redis.call('HSET', KEYS[1], 'nickname', ARGV[2])
+        redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        return 1
+        """, Long.class);
+
+    // KEYS: recorded, 승자 게스트 키..., 패자 게스트 키... / ARGV: recordedTtl, ttlMs, winCount -> 새로 집계했으면 1
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then return 0 end
+        local winEnd = 1 + tonumber(ARGV[3])
+        for i = 2, #KEYS do
+            if redis.call('EXISTS', KEYS[i]) == 1 then
+                redis.call('HINCRBY', KEYS[i], i <= winEnd and 'win' or 'lose', 1)
+                redis.call('PEXPIRE', KEYS[i], ARGV[2])
+            end
+        end
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMs;
+
+    public GuestRedisRepository(StringRedisTemplate redisTemplate,
+        @Value("${guest.ttl-ms:3600000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 예약 범위의 ID 인지 (Redis 게스트)
+     */
+    public static boolean isGuest(Long memberId) {
+        return memberId != null && memberId > GUEST_ID_BASE;
+    }
+
+    private static String getKey(long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    /**
+     * 게스트 생성 - 예약 범위에서 ID 를 발급하고 TTL 과 함께 저장
+     */
+    public GuestProfile create(String providerId, String email, String nickname) {
+        Long sequence = redisTemplate.opsForValue().increment(ID_SEQ_KEY);
+        long memberId = GUEST_ID_BASE + (sequence == null ? 0 : sequence);
+        redisTemplate.execute(CREATE_SCRIPT, List.of(getKey(memberId)),
+            String.valueOf(ttlMs), providerId, email, nickname);
+        return new GuestProfile(memberId, providerId, email, nickname, 0, 0);
+    }
+
+    /**
+     * 게스트 조회 (만료됐으면 null)
+     */
+    public GuestProfile findById(long memberId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(getKey(memberId));
+        if (fields.isEmpty()) {
+            return null;
+        }
+        return new GuestProfile(memberId,
+            (String) fields.get(PROVIDER_ID),
+            (String) fields.get(EMAIL),
+            (String) fields.get(NICKNAME),
+            Long.parseLong((String) fields.getOrDefault(WIN, "0")),
+            Long.parseLong((String) fields.getOrDefault(LOSE, "0")));
+    }
+
+    /**
+     * 여러 게스트 닉네임 일괄 조회 (HGET 을 파이프라인으로 전송, 만료된 게스트는 제외)
+     */
+    public Map<Long, String> findNicknames(Collection<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        byte[] field = NICKNAME.getBytes(StandardCharsets.UTF_8);
+        List<Object> nicknames = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : ids) {
+                connection.hashCommands().hGet(getKey(memberId).getBytes(StandardCharsets.UTF_8), field);
+            }
+            return null;
+        });
+
+        Map<Long, String> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (nicknames.get(i) != null) {
+                result.put(ids.get(i), (String) nicknames.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 만료된 게스트 ID 조회 (EXISTS 를 파이프라인으로 전송)
+     */
+    public List<Long> findExpired(Collection<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : ids) {
+                connection.keyCommands().exists(getKey(memberId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                expired.add(ids.get(i));
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 닉네임 변경
+     *
+     * @return 만료된 게스트면 false
+     */
+    public boolean updateNickname(long memberId, String nickname) {
+        Long result = redisTemplate.execute(UPDATE_NICKNAME_SCRIPT, List.of(getKey(memberId)),
+            String.valueOf(ttlMs), nickname);
+        return result != null && result == 1;
+    }
+
+    /**
+     * 게임 결과 집계 (같은 게임의 같은 종료 요청은 한 번만, 이미 만료된 게스트는 건너뜀)
+     *
+     * @return 새로 집계했으면 true
+     */
+    public boolean record(long gameId, long requestedAt, Collection<Long> winners, Collection<Long> losers) {
+        if (winners.isEmpty() && losers.isEmpty()) {
+            return false;
+        }
+        List<String> keys = new ArrayList<>(1 + winners.size() + losers.size());
+        keys.add("guest-stats:recorded:" + gameId + ":" + requestedAt);
+        winners.forEach(memberId -> keys.add(getKey(memberId)));
+        losers.forEach(memberId -> keys.add(getKey(memberId)));
+
+        Long result = redisTemplate.execute(RECORD_SCRIPT, keys,
+            String.valueOf(RECORDED_TTL_SECONDS), String.valueOf(ttlMs), String.valueOf(winners.size()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 활동한 게스트의 만료 시각을 연장 (PEXPIRE 를 파이프라인으로 전송)
+     */
+    public void touch(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                connection.keyCommands().pExpire(getKey(memberId).getBytes(StandardCharsets.UTF_8), ttlMs);
+            }
+            return null;
+        });
+    }
+
+    public void delete(long memberId) {
+        redisTemplate.delete(getKey(memberId));
+    }
+}
@@ -0,0 +1,232 @@
+package com.mafia.domain.member.repository;
+
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.game.repository.GameResultRedisRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리더보드 저장소 (Redis)
+ * <pre>
+ * leaderboard:wins                 ZSET    memberId, score = 누적 승리 수
+ * leaderboard:games                ZSET    memberId, score = 누적 판 수 (승률 계산용)
+ * leaderboard:win-rate             ZSET    memberId, score = 승률 (최소 판 수 이상인 회원만)
+ * leaderboard:role-wins:{role}     ZSET    memberId, score = 해당 직업으로 이긴 수
+ * leaderboard:applied:{gameId}:{requestedAt}  STRING  같은 종료 요청을 두 번 반영하지 않기 위한 표시 (1일)
+ * leaderboard:reconcile-lock       STRING  MySQL 대조 작업 실행 노드 잠금
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRedisRepository {
+
+    private static final String WINS_KEY = "leaderboard:wins";
+    private static final String GAMES_KEY = "leaderboard:games";
+    private static final String WIN_RATE_KEY = "leaderboard:win-rate";
+    private static final String RECONCILE_LOCK_KEY = "leaderboard:reconcile-lock";
+    private static final long APPLIED_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+
+    // KEYS: applied, wins, games, winRate, 승자별 직업 키... / ARGV: ttl, minGames, winCount, 승자 ID..., 패자 ID...
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then return 0 end
+        local minGames = tonumber(ARGV[2])
+        local winEnd = 3 + tonumber(ARGV[3])
+        for i = 4, #ARGV do
+            local member = ARGV[i]
+            local wins
+            if i <= winEnd then
+                wins = tonumber(redis.call('ZINCRBY', KEYS[2], 1, member))
+                redis.call('ZINCRBY', KEYS[i + 1], 1, member)
+            else
+                redis.call('ZADD', KEYS[2], 'NX', 0, member)
+                wins = tonumber(redis.call('ZSCORE', KEYS[2], member))
+            end
+            local games = tonumber(redis.call('ZINCRBY', KEYS[3], 1, member))
+            if games >= minGames then
+                redis.call('ZADD', KEYS[4], wins / games, member)
+            end
+        end
+        return 1
+        """, Long.class);
+
+    // KEYS: wins, games, winRate, 대기 승/패, 반영 중 승/패, flushSeq / ARGV: minGames, flushSeq, (memberId, win, lose)...
+    // -> 고친 회원 수, 그 사이 MySQL 반영이 있었으면 -1
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[8]) or '0') ~= ARGV[2] then return -1 end
+        local minGames = tonumber(ARGV[1])
+        local fixed = 0
+        for i = 3, #ARGV, 3 do
+            local member = ARGV[i]
+            if redis.call('HEXISTS', KEYS[4], member) == 0 and redis.call('HEXISTS', KEYS[5], member) == 0
+                and redis.call('HEXISTS', KEYS[6], member) == 0 and redis.call('HEXISTS', KEYS[7], member) == 0 then
+                local wins = tonumber(ARGV[i + 1])
+                local games = wins + tonumber(ARGV[i + 2])
+                local currentWins = tonumber(redis.call('ZSCORE', KEYS[1], member) or '-1')
+                local currentGames = tonumber(redis.call('ZSCORE', KEYS[2], member) or '-1')
+                if games == 0 then
+                    if currentGames > 0 then fixed = fixed + 1 end
+                    redis.call('ZREM', KEYS[1], member)
+                    redis.call('ZREM', KEYS[2], member)
+                    redis.call('ZREM', KEYS[3], member)
+                elseif currentWins ~= wins or currentGames ~= games then
+                    redis.call('ZADD', KEYS[1], wins, member)
+                    redis.call('ZADD', KEYS[2], games, member)
+                    if games >= minGames then
+                        redis.call('ZADD', KEYS[3], wins / games, member)
+                    else
+                        redis.call('ZREM', KEYS[3], member)
+                    end
+                    fixed = fixed + 1
+                end
+            end
+        end
+        return fixed
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static String getRoleWinsKey(Role role) {
+        return "leaderboard:role-wins:" + role.name();
+    }
+
+    /**
+     * 게임 결과 반영 (같은 게임의 같은 종료 요청은 한 번만 반영)
+     *
+     * @param winners 승자 ID -> 게임 종료 시 직업
+     * @return 새로 반영했으면 true
+     */
+    public boolean apply(long gameId, long requestedAt, Map<Long, Role> winners, Collection<Long> losers,
+        int minGames) {
+        List<String> keys = new ArrayList<>(4 + winners.size());
+        keys.add("leaderboard:applied:" + gameId + ":" + requestedAt);
+        keys.add(WINS_KEY);
+        keys.add(GAMES_KEY);
+        keys.add(WIN_RATE_KEY);
+
+        List<String> args = new ArrayList<>(3 + winners.size() + losers.size());
+        args.add(String.valueOf(APPLIED_TTL_SECONDS));
+        args.add(String.valueOf(minGames));
+        args.add(String.valueOf(winners.size()));
+        winners.forEach((memberId, role) -> {
+            keys.add(getRoleWinsKey(role));
+            args.add(String.valueOf(memberId));
+        });
+        losers.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        Long result = redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+        return result != null && result == 1;
+    }
+
+    /**
+     * 상위 순위 조회 (score 내림차순, 0부터 시작하는 구간)
+     */
+    public Set<TypedTuple<String>> findTop(String key, long start, long end) {
+        Set<TypedTuple<String>> entries = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        return entries == null ? Set.of() : entries;
+    }
+
+    /**
+     * 회원 순위 (0부터 시작, 순위에 없으면 null)
+     */
+    public Long findRank(String key, long memberId) {
+        return redisTemplate.opsForZSet().reverseRank(key, String.valueOf(memberId));
+    }
+
+    public Double findScore(String key, long memberId) {
+        return redisTemplate.opsForZSet().score(key, String.valueOf(memberId));
+    }
+
+    public String getWinsKey() {
+        return WINS_KEY;
+    }
+
+    public String getWinRateKey() {
+        return WIN_RATE_KEY;
+    }
+
+    /**
+     * MySQL 반영 횟수 - 대조 작업은 MySQL 을 읽기 전에 이 값을 받아 두고 {@link #reconcile} 에 넘김
+     */
+    public String getFlushSequence() {
+        String sequence = redisTemplate.opsForValue().get(GameResultRedisRepository.FLUSH_SEQ_KEY);
+        return sequence == null ? "0" : sequence;
+    }
+
+    /**
+     * MySQL 의 승패로 승리/판 수/승률 순위를 맞춤 - 아직 MySQL 에 반영되지 않은 증가분이 있는 회원은 건너뜀
+     *
+     * @param stats (memberId, win, lose) 목록
+     * @return 고친 회원 수, 그 사이 MySQL 반영이 있어 값을 믿을 수 없으면 -1
+     */
+    public long reconcile(List<long[]> stats, String flushSequence, int minGames) {
+        List<String> args = new ArrayList<>(2 + stats.size() * 3);
+        args.add(String.valueOf(minGames));
+        args.add(flushSequence);
+        for (long[] stat : stats) {
+            args.add(String.valueOf(stat[0]));
+            args.add(String.valueOf(stat[1]));
+            args.add(String.valueOf(stat[2]));
+        }
+
+        Long result = redisTemplate.execute(RECONCILE_SCRIPT, List.of(WINS_KEY, GAMES_KEY, WIN_RATE_KEY,
+                GameResultRedisRepository.WIN_KEY, GameResultRedisRepository.LOSE_KEY,
+                GameResultRedisRepository.FLUSHING_WIN_KEY, GameResultRedisRepository.FLUSHING_LOSE_KEY,
+                GameResultRedisRepository.FLUSH_SEQ_KEY),
+            args.toArray());
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * 회원 삭제 시 모든 순위에서 제거
+     */
+    public void removeMember(long memberId) {
+        removeMembers(List.of(memberId));
+    }
+
+    /**
+     * 여러 회원을 모든 순위에서 제거 (순위별 ZREM 한 번씩, 파이프라인으로 전송)
+     */
+    public void removeMembers(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        byte[][] members = memberIds.stream()
+            .map(memberId -> String.valueOf(memberId).getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+        List<String> keys = new ArrayList<>(List.of(WINS_KEY, GAMES_KEY, WIN_RATE_KEY));
+        for (Role role : Role.values()) {
+            keys.add(getRoleWinsKey(role));
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.zSetCommands().zRem(key.getBytes(StandardCharsets.UTF_8), members);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 대조 작업 잠금 획득 (만료 시각이 지나면 자동 해제)
+     */
+    public boolean tryReconcileLock(long leaseMs) {
+        return Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1", Duration.ofMillis(leaseMs)));
+    }
+
+    public void releaseReconcileLock() {
+        redisTemplate.delete(RECONCILE_LOCK_KEY);
+    }
+}
@@ -1,13 +1,17 @@
 package com.mafia.domain.member.repository;
 
+import com.mafia.domain.member.model.dto.GuestAccount;
 import com.mafia.domain.member.model.entity.Member;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,14 +19,22 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByProviderId(String providerId);
 
-    @Query("SELECT m FROM Member m WHERE m.providerId LIKE 'guest_%' AND m.lastActivityTime < :threshold")
-    List<Member> findInactiveGuestAccounts(LocalDateTime threshold);
+    // 비활성 게스트 ID 키셋 페이지 (엔티티 대신 ID, providerId 만 조회)
+    @Query("SELECT m.memberId AS memberId, m.providerId AS providerId FROM Member m "
+        + "WHERE m.providerId LIKE 'guest_%' AND m.lastActivityTime < :threshold AND m.memberId > :afterId "
+        + "ORDER BY m.memberId")
+    List<GuestAccount> findInactiveGuestAccounts(LocalDateTime threshold, Long afterId, Pageable pageable);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Member m SET m.win = m.win + 1 WHERE m.memberId IN :winMembers")
-    int updateWinCounts(@Param("winMembers") List<Long> winMembers);
+    // 삭제 직전 재확인 - 그 사이 활동한 게스트는 제외하고 남은 행은 삭제할 때까지 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.memberId FROM Member m "
+        + "WHERE m.memberId IN :memberIds AND m.providerId LIKE 'guest_%' AND m.lastActivityTime < :threshold")
+    List<Long> lockInactiveGuestIds(Collection<Long> memberIds, LocalDateTime threshold);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Member m SET m.lose = m.lose + 1 WHERE m.memberId IN :loseMembers")
-    int updateLoseCounts(@Param("loseMembers") List<Long> loseMembers);
-}
\ No newline at end of file
+    @Query("DELETE FROM Member m WHERE m.memberId IN :memberIds")
+    int deleteAllByMemberIdIn(Collection<Long> memberIds);
+
+    // 리더보드 대조용 - memberId 기준 키셋 페이지
+    List<Member> findByMemberIdGreaterThanOrderByMemberIdAsc(Long memberId, Pageable pageable);
+}
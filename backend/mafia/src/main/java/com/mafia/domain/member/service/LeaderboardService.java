@@ -0,0 +1,179 @@
+package com.mafia.domain.member.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.BAD_REQUEST;
+
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.member.model.dto.response.LeaderboardResponse;
+import com.mafia.domain.member.model.dto.response.RankResponse;
+import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.enumerate.LeaderboardType;
+import com.mafia.domain.member.repository.LeaderboardRedisRepository;
+import com.mafia.domain.member.repository.MemberRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리더보드 서비스 - 게임이 끝날 때마다 Redis Sorted Set 을 갱신하고 순위 조회는 Redis 에서만 처리 (O(log N))
+ * <p>
+ * 승리/판 수/승률 순위는 주기적으로 MySQL 의 회원 승패와 대조해 어긋난 값을 바로잡습니다. 직업별 승리 수는 MySQL 에 원본이
+ * 없으므로 Redis 에만 누적됩니다.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int RECONCILE_RETRIES = 3;
+
+    private final LeaderboardRedisRepository leaderboardRepository;
+    private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final int minGamesForRate;
+    private final int reconcileBatchSize;
+    private final long reconcileLockMs;
+
+    public LeaderboardService(LeaderboardRedisRepository leaderboardRepository,
+        MemberRepository memberRepository,
+        MemberService memberService,
+        @Value("${leaderboard.min-games-for-rate:10}") int minGamesForRate,
+        @Value("${leaderboard.reconcile.batch-size:500}") int reconcileBatchSize,
+        @Value("${leaderboard.reconcile.lock-ms:600000}") long reconcileLockMs) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.memberRepository = memberRepository;
+        this.memberService = memberService;
+        this.minGamesForRate = minGamesForRate;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.reconcileLockMs = reconcileLockMs;
+    }
+
+    /**
+     * 게임 결과 반영 (같은 종료 요청은 한 번만 반영)
+     *
+     * @param winners 승자 ID -> 게임 종료 시 직업
+     */
+    public void recordGame(long gameId, long requestedAt, Map<Long, Role> winners, Collection<Long> losers) {
+        if (!leaderboardRepository.apply(gameId, requestedAt, winners, losers, minGamesForRate)) {
+            log.info("Game {} already applied to leaderboard", gameId);
+        }
+    }
+
+    /**
+     * 순위 페이지 조회 (page 는 0부터)
+     */
+    public LeaderboardResponse getLeaderboard(LeaderboardType type, Role role, int page, int size) {
+        String key = resolveKey(type, role);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long start = (long) Math.max(page, 0) * pageSize;
+
+        Set<TypedTuple<String>> entries = leaderboardRepository.findTop(key, start, start + pageSize - 1);
+        List<Long> memberIds = entries.stream().map(entry -> Long.valueOf(entry.getValue())).toList();
+        Map<Long, String> nicknames = memberService.getNicknames(memberIds);
+
+        List<RankResponse> ranks = new ArrayList<>(entries.size());
+        long rank = start;
+        for (TypedTuple<String> entry : entries) {
+            Long memberId = Long.valueOf(entry.getValue());
+            ranks.add(new RankResponse(++rank, memberId, nicknames.get(memberId), entry.getScore()));
+        }
+        return new LeaderboardResponse(type, type == LeaderboardType.ROLE_WINS ? role : null,
+            Math.max(page, 0), pageSize, ranks);
+    }
+
+    /**
+     * 내 순위 조회 (순위에 없으면 rank, score 가 null)
+     */
+    public RankResponse getMyRank(Long memberId, LeaderboardType type, Role role) {
+        String key = resolveKey(type, role);
+        Long rank = leaderboardRepository.findRank(key, memberId);
+        String nickname = memberService.getNicknames(List.of(memberId)).get(memberId);
+        return new RankResponse(rank == null ? null : rank + 1, memberId, nickname,
+            leaderboardRepository.findScore(key, memberId));
+    }
+
+    /**
+     * MySQL 의 회원 승패와 대조 (한 노드만 실행, memberId 순으로 나눠 처리)
+     */
+    @Scheduled(cron = "${leaderboard.reconcile.cron:0 */10 * * * *}")
+    public void reconcile() {
+        if (!leaderboardRepository.tryReconcileLock(reconcileLockMs)) {
+            return;
+        }
+
+        long fixed = 0;
+        long skipped = 0;
+        try {
+            long afterId = 0;
+            List<Member> members;
+            do {
+                String flushSequence = leaderboardRepository.getFlushSequence();
+                members = memberRepository.findByMemberIdGreaterThanOrderByMemberIdAsc(afterId,
+                    PageRequest.of(0, reconcileBatchSize));
+                if (members.isEmpty()) {
+                    break;
+                }
+
+                long result = -1;
+                for (int attempt = 0; attempt < RECONCILE_RETRIES && result < 0; attempt++) {
+                    if (attempt > 0) {  // 읽는 사이 승패가 MySQL 에 반영됨 - 다시 읽음
+                        flushSequence = leaderboardRepository.getFlushSequence();
+                        members = memberRepository.findByMemberIdGreaterThanOrderByMemberIdAsc(afterId,
+                            PageRequest.of(0, reconcileBatchSize));
+                    }
+                    result = leaderboardRepository.reconcile(toStats(members), flushSequence, minGamesForRate);
+                }
+                if (result < 0) {
+                    skipped += members.size();
+                } else {
+                    fixed += result;
+                }
+                afterId = members.get(members.size() - 1).getMemberId();
+            } while (members.size() == reconcileBatchSize);
+
+            log.info("리더보드 MySQL 대조 완료 - 수정: {}, 건너뜀: {}", fixed, skipped);
+        } catch (Exception e) {
+            log.error("리더보드 MySQL 대조 실패: {}", e.getMessage());
+        } finally {
+            leaderboardRepository.releaseReconcileLock();
+        }
+    }
+
+    /**
+     * 회원 삭제 시 순위에서 제거
+     */
+    public void removeMember(Long memberId) {
+        leaderboardRepository.removeMember(memberId);
+    }
+
+    private String resolveKey(LeaderboardType type, Role role) {
+        return switch (type) {
+            case WINS -> leaderboardRepository.getWinsKey();
+            case WIN_RATE -> leaderboardRepository.getWinRateKey();
+            case ROLE_WINS -> {
+                if (role == null) {
+                    throw new BusinessException(BAD_REQUEST);
+                }
+                yield LeaderboardRedisRepository.getRoleWinsKey(role);
+            }
+        };
+    }
+
+    private List<long[]> toStats(List<Member> members) {
+        return members.stream()
+            .map(member -> new long[]{
+                member.getMemberId(),
+                member.getWin() == null ? 0 : member.getWin(),
+                member.getLose() == null ? 0 : member.getLose()
+            })
+            .toList();
+    }
+}
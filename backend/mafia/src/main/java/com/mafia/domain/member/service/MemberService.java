@@ -3,15 +3,19 @@ package com.mafia.domain.member.service;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.MEMBER_NOT_FOUND;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_GUEST_ACCOUNT;
 
-import com.mafia.domain.game.model.game.GameStatus;
-import com.mafia.domain.game.model.game.Player;
-import com.mafia.domain.game.model.game.Role;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.model.dto.response.NicknameResponse;
 import com.mafia.domain.member.model.entity.Member;
+import com.mafia.domain.member.model.redis.GuestProfile;
+import com.mafia.domain.member.repository.GuestRedisRepository;
+import com.mafia.domain.member.repository.LeaderboardRedisRepository;
 import com.mafia.domain.member.repository.MemberRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,17 +27,47 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final LeaderboardRedisRepository leaderboardRepository;
+    private final GuestRedisRepository guestRepository;
 
-    //일정 회원 조회
+    //일정 회원 조회 (예약 범위 ID 는 Redis 게스트)
     public MemberResponse getMemberInfo(Long memberId) {
+        if (GuestRedisRepository.isGuest(memberId)) {
+            return MemberResponse.from(findGuest(memberId));
+        }
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
         return MemberResponse.from(member);
     }
 
+    // 여러 회원 닉네임 일괄 조회 (존재하지 않는 회원은 제외) - 게스트는 Redis, 나머지는 MySQL 에서 한 번씩 조회
+    public Map<Long, String> getNicknames(Collection<Long> memberIds) {
+        Map<Boolean, List<Long>> byGuest = memberIds.stream()
+            .collect(Collectors.partitioningBy(GuestRedisRepository::isGuest));
+
+        Map<Long, String> nicknames = new HashMap<>(guestRepository.findNicknames(byGuest.get(true)));
+        if (!byGuest.get(false).isEmpty()) {
+            memberRepository.findAllById(byGuest.get(false))
+                .forEach(member -> nicknames.put(member.getMemberId(), member.getNickname()));
+        }
+        return nicknames;
+    }
+
+    // 게스트 조회 (만료된 게스트는 없는 회원으로 처리)
+    private GuestProfile findGuest(Long memberId) {
+        return Optional.ofNullable(guestRepository.findById(memberId))
+            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+    }
+
     //닉네임 변경
     @Transactional
     public NicknameResponse updateNickname(Long memberId, String nickname) {
+        if (GuestRedisRepository.isGuest(memberId)) {
+            if (!guestRepository.updateNickname(memberId, nickname)) {
+                throw new BusinessException(MEMBER_NOT_FOUND);
+            }
+            return new NicknameResponse(nickname);
+        }
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
         member.changeNickname(nickname);
@@ -44,6 +78,10 @@ public class MemberService {
     // 회원 삭제
     @Transactional
     public void updateStatusMember(Long memberId) {
+        if (GuestRedisRepository.isGuest(memberId)) {
+            guestRepository.delete(memberId);
+            return;
+        }
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
         member.changeStatusToInActive();
@@ -51,6 +89,10 @@ public class MemberService {
 
     @Transactional
     public void deleteMember(Long memberId) {
+        if (GuestRedisRepository.isGuest(memberId)) {
+            guestRepository.delete(memberId);  // 게스트는 순위에 오르지 않음
+            return;
+        }
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
 
@@ -59,30 +101,6 @@ public class MemberService {
             throw new BusinessException(NOT_GUEST_ACCOUNT);
         }
         memberRepository.delete(member);
-    }
-
-    @Transactional
-    public void recordMembers(List<Player> players, GameStatus gameStatus) {
-        List<Long> winMembers = players.stream()
-            .filter(player -> (
-                (player.getRole() == Role.ZOMBIE && gameStatus == GameStatus.ZOMBIE_WIN) ||
-                    (player.getRole() == Role.MUTANT && gameStatus == GameStatus.MUTANT_WIN) ||
-                    (player.getRole() != Role.ZOMBIE && player.getRole() != Role.MUTANT
-                        && gameStatus == GameStatus.CITIZEN_WIN)
-            ))
-            .map(Player::getMemberId)
-            .collect(Collectors.toList());
-
-        List<Long> loseMembers = players.stream()
-            .filter(player -> !winMembers.contains(player.getMemberId()))
-            .map(Player::getMemberId)
-            .collect(Collectors.toList());
-
-        if (!winMembers.isEmpty()) {
-            memberRepository.updateWinCounts(winMembers);
-        }
-        if (!loseMembers.isEmpty()) {
-            memberRepository.updateLoseCounts(loseMembers);
-        }
+        leaderboardRepository.removeMember(memberId);
     }
 }
@@ -2,19 +2,25 @@ package com.mafia.domain.room.controller;
 
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbySearchRequest;
+import com.mafia.domain.room.model.request.QuickJoinRequest;
 import com.mafia.domain.room.model.request.RoomRequest;
 import com.mafia.domain.room.model.response.RoomEnterResponse;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.LobbySnapshot;
 import com.mafia.domain.room.model.response.RoomIdResponse;
 import com.mafia.domain.room.model.response.RoomResponse;
+import com.mafia.domain.room.service.LobbyFeedService;
+import com.mafia.domain.room.service.MatchmakingService;
 import com.mafia.domain.room.service.RoomDbService;
 import com.mafia.global.common.model.dto.BaseResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -30,8 +36,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RoomController {
 
-    private final SimpMessageSendingOperations messagingTemplate;
     private final RoomDbService roomDbService;
+    private final LobbyFeedService lobbyFeedService;
+    private final MatchmakingService matchmakingService;
 
     /**
      * 방 생성 - RDB에 기본 정보 저장 & Redis에 실시간 정보 요청 값으로 설정
@@ -42,19 +49,58 @@ public class RoomController {
         @AuthenticationPrincipal AuthenticatedUser detail
     ) {
         RoomIdResponse response = roomDbService.createRoom(roomRequest, detail.getMemberId());
-        messagingTemplate.convertAndSend("/topic/lobby", roomDbService.getAllRooms());
         return ResponseEntity.ok(new BaseResponse<>(response));
     }
 
     /**
-     * 전체 방 목록 조회 - RDB와 Redis 데이터 조합하여 반환
+     * 빠른 참가 대기열 등록 - 배정 결과는 /user/queue/matchmaking 으로 수신
+     */
+    @PostMapping("/quick-join")
+    public ResponseEntity<BaseResponse<Void>> quickJoin(
+        @RequestBody QuickJoinRequest request,
+        @AuthenticationPrincipal AuthenticatedUser detail
+    ) {
+        matchmakingService.enqueue(detail.getMemberId(), request);
+        return ResponseEntity.ok(new BaseResponse<>());
+    }
+
+    /**
+     * 빠른 참가 대기 취소
+     */
+    @DeleteMapping("/quick-join")
+    public ResponseEntity<BaseResponse<Void>> cancelQuickJoin(
+        @AuthenticationPrincipal AuthenticatedUser detail) {
+        matchmakingService.cancel(detail.getMemberId());
+        return ResponseEntity.ok(new BaseResponse<>());
+    }
+
+    /**
+     * 전체 방 목록 조회 - 노드 메모리의 로비 인덱스에서 반환
      */
     @GetMapping
     public ResponseEntity<BaseResponse<List<RoomResponse>>> getAllRooms() {
-        List<RoomResponse> rooms = roomDbService.getAllRooms();
+        List<RoomResponse> rooms = lobbyFeedService.getSnapshot().getRooms();
         return ResponseEntity.ok(new BaseResponse<>(rooms));
     }
 
+    /**
+     * 로비 검색 - 페이지 단위 조회 (빈 자리, 시작 전, 비밀번호 없음, 제목 접두어 필터)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<LobbyPageResponse>> searchRooms(
+        @ModelAttribute LobbySearchRequest request) {
+        return ResponseEntity.ok(new BaseResponse<>(lobbyFeedService.search(request)));
+    }
+
+    /**
+     * 로비 스냅샷 조회 - 이 응답을 보낸 노드의 버전이므로 변경분(/topic/lobby/delta)과 이어 쓰려면 feedId 가 같아야 함
+     * (변경분과 함께 쓰는 클라이언트는 같은 STOMP 세션의 /app/lobby 구독으로 스냅샷을 받음)
+     */
+    @GetMapping("/lobby")
+    public ResponseEntity<BaseResponse<LobbySnapshot>> getLobbySnapshot() {
+        return ResponseEntity.ok(new BaseResponse<>(lobbyFeedService.getSnapshot()));
+    }
+
     /**
      * 특정 방의 상세 정보를 조회 - Redis에서 실시간 정보 조회
      */
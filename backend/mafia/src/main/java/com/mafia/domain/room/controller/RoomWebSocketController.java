@@ -4,7 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.chat.model.StompPrincipal;
 import com.mafia.domain.game.service.GameService;
+import com.mafia.domain.room.model.request.LobbySearchRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.LobbySnapshot;
 import com.mafia.domain.room.model.webSocket.RoomMessages;
+import com.mafia.domain.room.service.LobbyFeedService;
 import com.mafia.domain.room.service.RoomDbService;
 import com.mafia.domain.room.service.RoomMessageService;
 import com.mafia.domain.room.service.RoomRedisService;
@@ -15,6 +19,8 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -28,18 +34,27 @@ import org.springframework.stereotype.Controller;
 public class RoomWebSocketController {
 
     private final RoomMessageService messageService;
+    private final LobbyFeedService lobbyFeedService;
     private final RoomRedisService roomRedisService;
     private final RoomDbService roomDbService;
     private final GameService gameService;
     private final ObjectMapper objectMapper;
 
     /**
-     * 로비 입장 시 방 목록 전송
+     * 로비 구독 시 스냅샷 전송 (/app/lobby 구독자에게만) - 이후 변경분은 /topic/lobby/delta
      */
-    @MessageMapping("/lobby/enter")
-    public void handleLobbyEnter() {
-        log.info("로비 입장 - 방 목록 전송");
-        messageService.sendRoomListToAll();
+    @SubscribeMapping("/lobby")
+    public LobbySnapshot handleLobbySubscribe() {
+        return lobbyFeedService.getSnapshot();
+    }
+
+    /**
+     * 로비 검색 - 요청한 세션에게만 결과 전송 (/user/topic/lobby/search)
+     */
+    @MessageMapping("/lobby/search")
+    @SendToUser(destinations = "/topic/lobby/search", broadcast = false)
+    public LobbyPageResponse handleLobbySearch(@Payload LobbySearchRequest request) {
+        return lobbyFeedService.search(request);
     }
 
     /**
@@ -55,7 +70,6 @@ public class RoomWebSocketController {
 
         roomRedisService.enterRoom(roomId, memberId, message.getPassword());
         messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
     }
 
     /**
@@ -75,7 +89,6 @@ public class RoomWebSocketController {
             log.info("방장 퇴장 - 방 번호: {}, hostId: {}", roomId, memberId);
             roomDbService.deleteRoom(roomId);
         }
-        messageService.sendRoomListToAll();
     }
 
     /**
@@ -91,7 +104,6 @@ public class RoomWebSocketController {
 
         roomRedisService.kickMember(roomId, memberId, message.getTargetParticipantNo());
         messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
     }
 
     /**
@@ -108,7 +120,7 @@ public class RoomWebSocketController {
     }
 
     /**
-     * 게임 시작
+     * 게임 시작 - 방 상태는 로비 피드(RoomChangedEvent)로 전파되므로 방 참가자 목록은 다시 보내지 않음
      */
     @MessageMapping("/room/start/{roomId}")
     @SendTo("/topic/room/{roomId}")
@@ -119,17 +131,11 @@ public class RoomWebSocketController {
         long memberId = Long.parseLong(detail.getName());
 
         roomRedisService.startGame(roomId, memberId);
-        messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
-        messageService.sendRoomStart(roomId);
         roomDbService.isActive(roomId);
 
         boolean isStart = gameService.startGame(roomId);
-        log.info("게임 종료 후 return 값: {} ", objectMapper.writeValueAsString(
-            Map.of("gameStart", String.valueOf(isStart))
-        ));
-        return objectMapper.writeValueAsString(
-            Map.of("gameStart", String.valueOf(isStart))
-        );
+        String response = objectMapper.writeValueAsString(Map.of("gameStart", String.valueOf(isStart)));
+        log.info("게임 시작 응답: {} ", response);
+        return response;
     }
 }
\ No newline at end of file
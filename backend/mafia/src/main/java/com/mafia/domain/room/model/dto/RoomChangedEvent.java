@@ -0,0 +1,10 @@
+package com.mafia.domain.room.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomChangedEvent {
+    private final Long roomId;
+}
@@ -2,8 +2,6 @@ package com.mafia.domain.room.model.entity;
 
 import com.mafia.global.common.model.entity.BaseEntity;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,8 +14,7 @@ import lombok.Setter;
 public class Room extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long roomId;
+    private Long roomId;  // Redis 카운터(rooms:id-seq)에서 발급
     private Long hostId;
 
     private String title;
@@ -15,6 +15,7 @@ public class RoomInfo {
     private static final long serialVersionUID = 1L;
 
     private Long roomId;
+    private Long hostId;      // 방 생성 후 변하지 않음 - 방장 확인 시 MySQL 조회 대신 사용
     private String title;
     private String password;
 
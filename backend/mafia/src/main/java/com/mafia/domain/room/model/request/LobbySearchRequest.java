@@ -0,0 +1,16 @@
+package com.mafia.domain.room.model.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class LobbySearchRequest {
+
+    private int page = 0;
+    private int size = 20;
+    private boolean openSlots;    // 빈 자리가 있는 방만
+    private boolean notStarted;   // 게임 시작 전인 방만
+    private boolean noPassword;   // 비밀번호 없는 방만
+    private String titlePrefix;   // 방 제목 접두어 (대소문자 무시)
+}
@@ -0,0 +1,16 @@
+package com.mafia.domain.room.model.request;
+
+import com.mafia.domain.game.model.game.GameOption;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 빠른 참가 요청 - 인원과 게임 옵션이 같은 대기자끼리만 같은 방에 배정
+ */
+@Data
+@NoArgsConstructor
+public class QuickJoinRequest {
+
+    private int requiredPlayers;
+    private GameOption gameOption;  // null 이면 기본 옵션
+}
@@ -0,0 +1,19 @@
+package com.mafia.domain.room.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로비 변경분 - 직전 버전 이후 추가/변경/삭제된 방만 담음
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyDelta {
+
+    private String feedId;  // 버전을 매긴 노드 피드 - 스냅샷과 다르면 스냅샷부터 다시 받아야 함
+    private long version;
+    private List<RoomResponse> added;
+    private List<RoomResponse> updated;  // 인원 수 변경, 게임 시작
+    private List<Long> removed;
+}
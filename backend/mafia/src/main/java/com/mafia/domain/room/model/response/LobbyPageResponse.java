@@ -0,0 +1,16 @@
+package com.mafia.domain.room.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LobbyPageResponse {
+
+    private long version;
+    private int page;
+    private int size;
+    private int totalElements;
+    private List<RoomResponse> rooms;
+}
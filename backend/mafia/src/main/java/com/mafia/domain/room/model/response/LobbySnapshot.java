@@ -0,0 +1,17 @@
+package com.mafia.domain.room.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로비 전체 목록 - 이후 같은 feedId 의 version + 1 부터의 LobbyDelta 를 적용하면 최신 상태가 됨
+ */
+@Getter
+@AllArgsConstructor
+public class LobbySnapshot {
+
+    private String feedId;  // 버전을 매긴 노드 피드 (노드마다, 재시작마다 다름)
+    private long version;
+    private List<RoomResponse> rooms;
+}
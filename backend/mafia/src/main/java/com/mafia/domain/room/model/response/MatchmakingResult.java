@@ -0,0 +1,19 @@
+package com.mafia.domain.room.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 빠른 참가 배정 결과 - /user/queue/matchmaking 으로 본인에게만 전송
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchmakingResult {
+
+    private Long memberId;
+    private Long roomId;
+    private int participantNo;
+    private boolean started;  // 배정과 동시에 정원이 차서 게임이 시작되었는지 여부
+}
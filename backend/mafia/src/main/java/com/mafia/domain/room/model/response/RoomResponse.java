@@ -10,4 +10,5 @@ public class RoomResponse {
     private Integer peopleCnt;
     private Integer requiredPlayers;
     private boolean isStart = false;
+    private boolean hasPassword;
 }
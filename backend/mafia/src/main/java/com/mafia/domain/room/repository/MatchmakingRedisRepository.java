@@ -0,0 +1,127 @@
+package com.mafia.domain.room.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 빠른 참가 대기열 Redis 저장소
+ * <pre>
+ * matchmaking:buckets         SET   대기자가 있는 버킷 (인원 + 게임 옵션)
+ * matchmaking:queue:{bucket}  LIST  버킷별 대기 memberId (먼저 온 순)
+ * matchmaking:members         HASH  memberId -> bucket (중복 등록 방지, 취소용)
+ * matchmaking:open:{bucket}   SET   빠른 참가로 만들어져 아직 자리가 남은 방
+ * </pre>
+ * 등록/꺼내기/취소는 Lua 스크립트로 처리하므로 여러 노드가 동시에 꺼내도 같은 유저가 두 번 배정되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchmakingRedisRepository {
+
+    private static final String BUCKETS_KEY = "matchmaking:buckets";
+    private static final String MEMBERS_KEY = "matchmaking:members";
+    private static final String QUEUE_KEY_PREFIX = "matchmaking:queue:";
+    private static final String OPEN_ROOMS_KEY_PREFIX = "matchmaking:open:";
+
+    // KEYS: members, queue, buckets / ARGV: memberId, bucket
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end
+        redis.call('RPUSH', KEYS[2], ARGV[1])
+        redis.call('SADD', KEYS[3], ARGV[2])
+        return 1
+        """, Long.class);
+
+    // KEYS: members, queue, buckets / ARGV: count, bucket
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>("""
+        local polled = redis.call('LPOP', KEYS[2], ARGV[1])
+        if not polled then polled = {} end
+        for _, memberId in ipairs(polled) do
+            redis.call('HDEL', KEYS[1], memberId)
+        end
+        if redis.call('LLEN', KEYS[2]) == 0 then redis.call('SREM', KEYS[3], ARGV[2]) end
+        return polled
+        """, List.class);
+
+    // KEYS: members / ARGV: memberId, queuePrefix
+    private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+        local bucket = redis.call('HGET', KEYS[1], ARGV[1])
+        if not bucket then return 0 end
+        redis.call('LREM', ARGV[2] .. bucket, 1, ARGV[1])
+        redis.call('HDEL', KEYS[1], ARGV[1])
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 대기열 등록
+     *
+     * @return 이미 대기 중이면 false
+     */
+    public boolean enqueue(Long memberId, String bucket) {
+        Long result = redisTemplate.execute(ENQUEUE_SCRIPT,
+            List.of(MEMBERS_KEY, QUEUE_KEY_PREFIX + bucket, BUCKETS_KEY),
+            String.valueOf(memberId), bucket);
+        return result != null && result == 1;
+    }
+
+    /**
+     * 대기 취소
+     *
+     * @return 대기 중이 아니었으면 false
+     */
+    public boolean cancel(Long memberId) {
+        Long result = redisTemplate.execute(CANCEL_SCRIPT, List.of(MEMBERS_KEY),
+            String.valueOf(memberId), QUEUE_KEY_PREFIX);
+        return result != null && result == 1;
+    }
+
+    /**
+     * 버킷에서 최대 count 명을 꺼냄 (먼저 온 순)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> poll(String bucket, int count) {
+        List<String> polled = (List<String>) redisTemplate.execute(POLL_SCRIPT,
+            List.of(MEMBERS_KEY, QUEUE_KEY_PREFIX + bucket, BUCKETS_KEY),
+            String.valueOf(count), bucket);
+        return polled == null ? List.of() : polled.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 배정하지 못한 대기자를 원래 순서대로 대기열 앞쪽에 되돌림
+     */
+    public void requeueFront(String bucket, List<Long> memberIds) {
+        for (int i = memberIds.size() - 1; i >= 0; i--) {
+            String memberId = String.valueOf(memberIds.get(i));
+            if (Boolean.TRUE.equals(redisTemplate.opsForHash().putIfAbsent(MEMBERS_KEY, memberId, bucket))) {
+                redisTemplate.opsForList().leftPush(QUEUE_KEY_PREFIX + bucket, memberId);
+            }
+        }
+        redisTemplate.opsForSet().add(BUCKETS_KEY, bucket);
+    }
+
+    public Set<String> getBuckets() {
+        Set<String> buckets = redisTemplate.opsForSet().members(BUCKETS_KEY);
+        return buckets == null ? Set.of() : buckets;
+    }
+
+    public Set<Long> getOpenRooms(String bucket) {
+        Set<String> roomIds = redisTemplate.opsForSet().members(OPEN_ROOMS_KEY_PREFIX + bucket);
+        return roomIds == null ? Set.of()
+            : roomIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public void addOpenRoom(String bucket, Long roomId) {
+        redisTemplate.opsForSet().add(OPEN_ROOMS_KEY_PREFIX + bucket, String.valueOf(roomId));
+    }
+
+    public void removeOpenRoom(String bucket, Long roomId) {
+        redisTemplate.opsForSet().remove(OPEN_ROOMS_KEY_PREFIX + bucket, String.valueOf(roomId));
+    }
+}
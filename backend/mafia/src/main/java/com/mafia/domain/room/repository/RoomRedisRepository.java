@@ -1,21 +1,200 @@
 package com.mafia.domain.room.repository;
 
 
+import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.global.common.utils.SingleFlight;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 방 정보 Redis 저장소
+ * <p>
+ * room:{id} 에는 생성 후 바뀌지 않는 정보(JSON)만 두고, 참가자 관련 정보는 필드 단위로 나눠 저장합니다.
+ * <pre>
+ * room:{id}:state    HASH  required, password, hostId, active(0/1), readyCnt
+ * room:{id}:seats    HASH  참가자 번호 -> memberId
+ * room:{id}:players  HASH  memberId -> 닉네임
+ * room:{id}:ready    SET   준비 완료한 memberId
+ * room:{id}:migrating STRING 이전 형식 방을 옮기는 노드 잠금 (30초)
+ * </pre>
+ * 입장/퇴장/준비/시작은 각각 Lua 스크립트 하나로 검사와 변경을 함께 처리하므로 동시에 요청이 몰려도 정원 초과나 덮어쓰기가
+ * 생기지 않습니다.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RoomRedisRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 스크립트 결과 코드 (0 이상은 정상 결과)
+    public static final int RESULT_ROOM_NOT_FOUND = -1;
+    public static final int RESULT_ALREADY_STARTED = -2;
+    public static final int RESULT_ALREADY_JOINED = -3;
+    public static final int RESULT_INVALID_PASSWORD = -4;
+    public static final int RESULT_ROOM_FULL = -5;
+    public static final int RESULT_NOT_PARTICIPANT = -6;
+    public static final int RESULT_HOST_CANNOT_READY = -7;
+    public static final int RESULT_NOT_HOST = -8;
+    public static final int RESULT_PLAYER_COUNT_INVALID = -9;
+    public static final int RESULT_NOT_ALL_READY = -10;
+
     private static final String ROOM_KEY_PREFIX = "room:";
+    private static final Pattern ROOM_KEY_PATTERN = Pattern.compile("room:\\d+");
+    private static final String ROOM_INDEX_KEY = "rooms:index";         // ZSET  score/member: roomId
+    private static final String ROOM_COUNT_KEY = "rooms:player-count";  // HASH  roomId -> 현재 인원
+    private static final String MEMBER_INDEX_KEY = "rooms:member-index"; // HASH  memberId -> roomId
+    private static final String ROOM_ID_SEQ_KEY = "rooms:id-seq";        // STRING 마지막 발급 roomId
+    private static final String PERSIST_QUEUE_KEY = "rooms:persist-queue"; // LIST MySQL 저장 대기 roomId
+    private static final String PERSIST_PROCESSING_KEY = "rooms:persist-processing"; // ZSET 저장 중 roomId, score = 임대 만료 시각
+
+    // 다른 방으로 옮겨 간 유저의 항목을 지우지 않도록 값이 roomId 와 같을 때만 삭제
+    private static final byte[] RELEASE_MEMBERS_SCRIPT = bytes("""
+        local released = 0
+        for i = 2, #ARGV do
+            if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[1] then
+                released = released + redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+        end
+        return released
+        """);
+
+    // 카운터가 floor 보다 작을 때만 올림 (MySQL 에 이미 있는 ID 와 겹치지 않도록)
+    private static final RedisScript<Long> RAISE_SEQ_SCRIPT = new DefaultRedisScript<>("""
+        local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if current < tonumber(ARGV[1]) then
+            redis.call('SET', KEYS[1], ARGV[1])
+            return tonumber(ARGV[1])
+        end
+        return current
+        """, Long.class);
+
+    // KEYS: state, seats, players, memberIndex, countHash / ARGV: roomId, memberId, nickname, password
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+        if redis.call('HGET', KEYS[1], 'active') == '1' then return -2 end
+        if redis.call('HEXISTS', KEYS[4], ARGV[2]) == 1 then return -3 end
+        local password = redis.call('HGET', KEYS[1], 'password')
+        if password and password ~= '' and password ~= ARGV[4] then return -4 end
+        local required = tonumber(redis.call('HGET', KEYS[1], 'required'))
+        if redis.call('HLEN', KEYS[3]) >= required then return -5 end
+        local seat = 2
+        while redis.call('HEXISTS', KEYS[2], tostring(seat)) == 1 do seat = seat + 1 end
+        redis.call('HSET', KEYS[2], tostring(seat), ARGV[2])
+        redis.call('HSET', KEYS[3], ARGV[2], ARGV[3])
+        redis.call('HSET', KEYS[4], ARGV[2], ARGV[1])
+        redis.call('HSET', KEYS[5], ARGV[1], redis.call('HLEN', KEYS[3]))
+        return seat
+        """, Long.class);
+
+    // KEYS: state, seats, players, ready, memberIndex, countHash / ARGV: roomId, memberId
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+        if redis.call('HGET', KEYS[1], 'active') == '1' then return -2 end
+        local seats = redis.call('HGETALL', KEYS[2])
+        local seat
+        for i = 1, #seats, 2 do
+            if seats[i + 1] == ARGV[2] then seat = seats[i] end
+        end
+        if not seat then return -6 end
+        redis.call('HDEL', KEYS[2], seat)
+        redis.call('HDEL', KEYS[3], ARGV[2])
+        if redis.call('SREM', KEYS[4], ARGV[2]) == 1 then
+            redis.call('HINCRBY', KEYS[1], 'readyCnt', -1)
+        end
+        if redis.call('HGET', KEYS[5], ARGV[2]) == ARGV[1] then
+            redis.call('HDEL', KEYS[5], ARGV[2])
+        end
+        redis.call('HSET', KEYS[6], ARGV[1], redis.call('HLEN', KEYS[3]))
+        return tonumber(seat)
+        """, Long.class);
+
+    // KEYS: state, players, ready / ARGV: memberId  -> {준비 여부(0/1), 준비 인원} 또는 {오류 코드}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_READY_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return {-1} end
+        if redis.call('HGET', KEYS[1], 'active') == '1' then return {-2} end
+        if redis.call('HGET', KEYS[1], 'hostId') == ARGV[1] then return {-7} end
+        if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 0 then return {-6} end
+        if redis.call('SREM', KEYS[3], ARGV[1]) == 1 then
+            return {0, redis.call('HINCRBY', KEYS[1], 'readyCnt', -1)}
+        end
+        redis.call('SADD', KEYS[3], ARGV[1])
+        return {1, redis.call('HINCRBY', KEYS[1], 'readyCnt', 1)}
+        """, List.class);
+
+    // KEYS: state, players / ARGV: memberId
+    private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+        if redis.call('HGET', KEYS[1], 'active') == '1' then return -2 end
+        if redis.call('HGET', KEYS[1], 'hostId') ~= ARGV[1] then return -8 end
+        local count = redis.call('HLEN', KEYS[2])
+        if count ~= tonumber(redis.call('HGET', KEYS[1], 'required')) then return -9 end
+        if tonumber(redis.call('HGET', KEYS[1], 'readyCnt')) ~= count - 1 then return -10 end
+        redis.call('HSET', KEYS[1], 'active', '1')
+        return count
+        """, Long.class);
+
+    // KEYS: queue, processing / ARGV: now, leaseUntil, limit -> 임대한 roomId 목록
+    // 임대가 끝난(처리하던 노드가 죽은) 항목을 먼저 다시 가져가고, 남은 수만큼 대기열에서 꺼내 함께 임대
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_PERSIST_SCRIPT = new DefaultRedisScript<>("""
+        local limit = tonumber(ARGV[3])
+        local claimed = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, limit)
+        while #claimed < limit do
+            local roomId = redis.call('LPOP', KEYS[1])
+            if not roomId then break end
+            claimed[#claimed + 1] = roomId
+        end
+        for _, roomId in ipairs(claimed) do
+            redis.call('ZADD', KEYS[2], ARGV[2], roomId)
+        end
+        return claimed
+        """, List.class);
+
+    // KEYS: state, players, seats, roomIndex, countHash, memberIndex / ARGV: roomId
+    // 이미 필드 단위로 저장된 방의 인덱스 항목만 채움 (없는 항목만 추가하므로 동시에 진행 중인 입장/퇴장을 덮어쓰지 않음)
+    private static final RedisScript<Long> REINDEX_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+        redis.call('ZADD', KEYS[4], 'NX', ARGV[1], ARGV[1])
+        redis.call('HSETNX', KEYS[5], ARGV[1], redis.call('HLEN', KEYS[2]))
+        if redis.call('HGET', KEYS[1], 'active') ~= '1' then
+            local members = redis.call('HVALS', KEYS[3])
+            for i = 1, #members do
+                redis.call('HSETNX', KEYS[6], members[i], ARGV[1])
+            end
+        end
+        return 1
+        """, Long.class);
+
+    private static final Duration MIGRATE_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SingleFlight<Long, RoomInfo> sharedLoader = new SingleFlight<>();
 
     /**
      * Redis key 생성
@@ -24,47 +203,454 @@ public class RoomRedisRepository {
         return ROOM_KEY_PREFIX + roomId;
     }
 
+    private String getStateKey(long roomId) {
+        return getRoomKey(roomId) + ":state";
+    }
+
+    private String getSeatsKey(long roomId) {
+        return getRoomKey(roomId) + ":seats";
+    }
+
+    private String getPlayersKey(long roomId) {
+        return getRoomKey(roomId) + ":players";
+    }
+
+    private String getReadyKey(long roomId) {
+        return getRoomKey(roomId) + ":ready";
+    }
+
+    /**
+     * 새 방 ID 발급 (INCR 1회)
+     */
+    public long nextRoomId() {
+        return stringRedisTemplate.opsForValue().increment(ROOM_ID_SEQ_KEY);
+    }
+
+    /**
+     * 방 ID 카운터를 최소 floor 까지 올림
+     *
+     * @return 조정 후 카운터 값
+     */
+    public long raiseRoomIdSequence(long floor) {
+        return stringRedisTemplate.execute(RAISE_SEQ_SCRIPT, List.of(ROOM_ID_SEQ_KEY),
+            String.valueOf(floor));
+    }
+
+    /**
+     * MySQL 저장 대기열에 추가
+     */
+    public void enqueuePersist(Long roomId) {
+        stringRedisTemplate.opsForList().rightPush(PERSIST_QUEUE_KEY, String.valueOf(roomId));
+    }
+
+    /**
+     * MySQL 저장 대기열에서 최대 count 개를 임대 (대기열에서 저장 중 목록으로 옮김 - 커밋 전에 노드가 죽어도 임대가 끝나면 다시
+     * 가져감)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimPersist(long now, long leaseUntil, int count) {
+        List<String> ids = (List<String>) stringRedisTemplate.execute(CLAIM_PERSIST_SCRIPT,
+            List.of(PERSIST_QUEUE_KEY, PERSIST_PROCESSING_KEY),
+            String.valueOf(now), String.valueOf(leaseUntil), String.valueOf(count));
+        return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
     /**
-     * 모든 방 정보 조회
+     * MySQL 커밋 후 저장 중 목록에서 제거
      */
-    public Set<String> getAllRooms() {
-        return redisTemplate.keys(ROOM_KEY_PREFIX + "*");  // 모든 방 키 가져오기
+    public void ackPersist(List<Long> roomIds) {
+        stringRedisTemplate.opsForZSet().remove(PERSIST_PROCESSING_KEY,
+            roomIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 모든 방 ID 조회 (방 인덱스 기준, 생성 순)
+     */
+    public Set<Long> getAllRoomIds() {
+        Set<String> ids = stringRedisTemplate.opsForZSet().range(ROOM_INDEX_KEY, 0, -1);
+        Set<Long> result = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.forEach(id -> result.add(Long.valueOf(id)));
+        }
+        return result;
     }
 
     /**
-     * roomId로 방 정보 조회
+     * roomId로 방 정보 조회 - 메타 정보와 참가자 필드를 파이프라인 1회로 읽어 RoomInfo 로 조립
      */
     public RoomInfo findById(Long roomId) {
-        return (RoomInfo) redisTemplate.opsForValue().get(getRoomKey(roomId));
+        List<RoomInfo> rooms = findAllById(List.of(roomId));
+        return rooms.isEmpty() ? null : rooms.get(0);
+    }
+
+    /**
+     * 읽기 전용 방 정보 조회 - 같은 방을 동시에 조회하면 파이프라인 조회/조립을 한 번만 하고 결과 객체를 함께 씀 (수정, 저장 금지)
+     */
+    public RoomInfo findByIdShared(Long roomId) {
+        return sharedLoader.load(roomId, () -> findById(roomId));
+    }
+
+    /**
+     * 여러 방 정보를 파이프라인 1회로 조회 (존재하지 않는 방은 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public List<RoomInfo> findAllById(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = List.copyOf(roomIds);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long roomId : ids) {
+                connection.stringCommands().get(bytes(getRoomKey(roomId)));
+                connection.hashCommands().hGetAll(bytes(getStateKey(roomId)));
+                connection.hashCommands().hGetAll(bytes(getSeatsKey(roomId)));
+                connection.hashCommands().hGetAll(bytes(getPlayersKey(roomId)));
+                connection.setCommands().sMembers(bytes(getReadyKey(roomId)));
+            }
+            return null;
+        });
+
+        List<RoomInfo> rooms = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String json = (String) results.get(i * 5);
+            if (json == null) {
+                continue;
+            }
+            RoomInfo roomInfo = (RoomInfo) redisTemplate.getValueSerializer().deserialize(bytes(json));
+            if (roomInfo == null) {
+                continue;
+            }
+            Map<String, String> state = (Map<String, String>) results.get(i * 5 + 1);
+            if (state != null && !state.isEmpty()) {
+                assemble(roomInfo, state,
+                    (Map<String, String>) results.get(i * 5 + 2),
+                    (Map<String, String>) results.get(i * 5 + 3),
+                    (Set<String>) results.get(i * 5 + 4));
+            }  // state 가 없으면 필드 분리 이전 형식 - JSON 에 참가자 정보가 그대로 있음
+            rooms.add(roomInfo);
+        }
+        return rooms;
     }
 
     /**
-     * 방 정보 저장
+     * 방 정보 전체 저장 - 방 생성, 더미 데이터, 인덱스 재구축 시 사용
+     * <p>
+     * 참가자 필드를 RoomInfo 내용으로 덮어쓰고 방 인덱스, 인원 수, 대기 중인 방이면 member -> roomId 역인덱스까지 한 번에
+     * 갱신합니다. 이후 참가자 변경은 {@link #join}, {@link #leave}, {@link #toggleReady}, {@link #start} 로만 합니다.
      */
     public void save(Long roomId, RoomInfo roomInfo) {
-        redisTemplate.opsForValue().set(getRoomKey(roomId), roomInfo);
+        byte[] value = serialize(metadataOf(roomInfo));
+        writeAtomically(connection -> {
+            byte[] member = bytes(String.valueOf(roomId));
+            connection.stringCommands().set(bytes(getRoomKey(roomId)), value);
+            connection.keyCommands().del(bytes(getSeatsKey(roomId)), bytes(getPlayersKey(roomId)),
+                bytes(getReadyKey(roomId)));
+
+            int readyCnt = 0;
+            for (Map.Entry<Integer, Long> entry : roomInfo.getMemberMapping().entrySet()) {
+                byte[] memberId = bytes(String.valueOf(entry.getValue()));
+                Participant participant = roomInfo.getParticipant().get(entry.getValue());
+                connection.hashCommands().hSet(bytes(getSeatsKey(roomId)),
+                    bytes(String.valueOf(entry.getKey())), memberId);
+                connection.hashCommands().hSet(bytes(getPlayersKey(roomId)), memberId,
+                    bytes(participant == null ? "" : participant.getNickName()));
+                if (participant != null && participant.isReady()) {
+                    connection.setCommands().sAdd(bytes(getReadyKey(roomId)), memberId);
+                    readyCnt++;
+                }
+                if (!roomInfo.isActive()) { // 게임이 끝나면 해제되므로 진행 중인 방 참가자는 역인덱스 대상이 아님
+                    connection.hashCommands().hSet(bytes(MEMBER_INDEX_KEY), memberId, member);
+                }
+            }
+
+            Map<byte[], byte[]> state = new HashMap<>();
+            state.put(bytes("required"), bytes(String.valueOf(roomInfo.getRequiredPlayers())));
+            state.put(bytes("password"), bytes(roomInfo.getPassword() == null ? "" : roomInfo.getPassword()));
+            state.put(bytes("hostId"),
+                bytes(roomInfo.getHostId() == null ? "" : String.valueOf(roomInfo.getHostId())));
+            state.put(bytes("active"), bytes(roomInfo.isActive() ? "1" : "0"));
+            state.put(bytes("readyCnt"), bytes(String.valueOf(readyCnt)));
+            connection.hashCommands().hMSet(bytes(getStateKey(roomId)), state);
+
+            connection.zSetCommands().zAdd(bytes(ROOM_INDEX_KEY), roomId, member);
+            connection.hashCommands().hSet(bytes(ROOM_COUNT_KEY), member,
+                bytes(String.valueOf(roomInfo.getMemberMapping().size())));
+        });
+    }
+
+    /**
+     * 입장 - 게임 진행 여부, 중복 참여, 비밀번호, 정원 검사 후 가장 작은 빈 번호(2번부터) 배정
+     *
+     * @return 배정된 참가자 번호 또는 RESULT_* 오류 코드
+     */
+    public long join(Long roomId, Long memberId, String nickname, String password) {
+        return write(() -> stringRedisTemplate.execute(JOIN_SCRIPT,
+            List.of(getStateKey(roomId), getSeatsKey(roomId), getPlayersKey(roomId),
+                MEMBER_INDEX_KEY, ROOM_COUNT_KEY),
+            String.valueOf(roomId), String.valueOf(memberId), nickname,
+            password == null ? "" : password));
+    }
+
+    /**
+     * 퇴장 - 참가자 번호, 준비 상태, 역인덱스, 인원 수를 함께 정리
+     *
+     * @return 비워진 참가자 번호 또는 RESULT_* 오류 코드
+     */
+    public long leave(Long roomId, Long memberId) {
+        return write(() -> stringRedisTemplate.execute(LEAVE_SCRIPT,
+            List.of(getStateKey(roomId), getSeatsKey(roomId), getPlayersKey(roomId),
+                getReadyKey(roomId), MEMBER_INDEX_KEY, ROOM_COUNT_KEY),
+            String.valueOf(roomId), String.valueOf(memberId)));
+    }
+
+    /**
+     * 준비 상태 토글 - 준비 인원(readyCnt)을 같은 스크립트에서 증감
+     *
+     * @return [준비 여부(0/1), 준비 인원] 또는 [RESULT_* 오류 코드]
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> toggleReady(Long roomId, Long memberId) {
+        return write(() -> (List<Long>) stringRedisTemplate.execute(TOGGLE_READY_SCRIPT,
+            List.of(getStateKey(roomId), getPlayersKey(roomId), getReadyKey(roomId)),
+            String.valueOf(memberId)));
+    }
+
+    /**
+     * 게임 시작 - 방장, 인원 수, 전체 준비 여부 확인 후 active 설정
+     *
+     * @return 참가 인원 또는 RESULT_* 오류 코드
+     */
+    public long start(Long roomId, Long memberId) {
+        return write(() -> stringRedisTemplate.execute(START_SCRIPT,
+            List.of(getStateKey(roomId), getPlayersKey(roomId)),
+            String.valueOf(memberId)));
+    }
+
+    /**
+     * 유저가 참여 중인 방 ID 조회 (HGET 1회)
+     *
+     * @return 참여 중인 방이 없으면 null
+     */
+    public Long findRoomIdByMemberId(Long memberId) {
+        Object roomId = stringRedisTemplate.opsForHash().get(MEMBER_INDEX_KEY, String.valueOf(memberId));
+        return roomId == null ? null : Long.valueOf((String) roomId);
+    }
+
+    /**
+     * 여러 유저의 참여 중인 방 ID 조회 (HMGET 1회)
+     *
+     * @return memberId -> roomId (참여 중인 유저만)
+     */
+    public Map<Long, Long> findRoomIdsByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> roomIds = stringRedisTemplate.opsForHash().multiGet(MEMBER_INDEX_KEY,
+            memberIds.stream().map(String::valueOf).collect(Collectors.toList()));
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (roomIds.get(i) != null) {
+                result.put(memberIds.get(i), Long.valueOf((String) roomIds.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ID 가 기준보다 큰 참여 유저 조회 - 역인덱스를 HSCAN 으로 순회 (HGETALL 로 한 번에 읽지 않음)
+     *
+     * @return memberId -> roomId
+     */
+    public Map<Long, Long> findRoomIdsByMemberIdAbove(long memberIdFloor) {
+        Map<Long, Long> result = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().count(500).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor =
+            stringRedisTemplate.opsForHash().scan(MEMBER_INDEX_KEY, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                long memberId = Long.parseLong((String) entry.getKey());
+                if (memberId > memberIdFloor) {
+                    result.put(memberId, Long.valueOf((String) entry.getValue()));
+                }
+            }
+        }
+        return result;
     }
 
     /**
-     * 모든 방의 참가자 수 조회
+     * 역인덱스에서 참가자 제거 - 아직 이 방을 가리키는 항목만 지움 (게임 종료 시 사용)
+     */
+    public void releaseMembers(Long roomId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        writeAtomically(connection -> releaseMembers(connection, roomId, memberIds));
+    }
+
+    /**
+     * 모든 방의 참가자 수 조회 (HGETALL 1회)
      */
     public HashMap<Long, Integer> getRoomPlayerCounts() {
         HashMap<Long, Integer> result = new HashMap<>();
-        Set<String> roomKeys = getAllRooms();
+        Map<Object, Object> counts = stringRedisTemplate.opsForHash().entries(ROOM_COUNT_KEY);
 
-        for (String key : roomKeys) {
-            RoomInfo roomInfo = (RoomInfo) redisTemplate.opsForValue().get(key);
-            result.put(roomInfo.getRoomId(), roomInfo.getParticipant().size());
+        for (Map.Entry<Object, Object> entry : counts.entrySet()) {
+            result.put(Long.valueOf((String) entry.getKey()),
+                Integer.valueOf((String) entry.getValue()));
         }
         return result;
     }
 
     /**
-     * 방 삭제
+     * 방 삭제 - 남아 있던 참가자의 역인덱스도 함께 제거
      */
-    public void delete(Long roomId) {
+    public void delete(Long roomId, Collection<Long> memberIds) {
         log.info("방 삭제 시도 - roomId {}", roomId);
-        redisTemplate.delete(getRoomKey(roomId));
+        byte[] member = bytes(String.valueOf(roomId));
+        writeAtomically(connection -> {
+            connection.keyCommands().del(bytes(getRoomKey(roomId)), bytes(getStateKey(roomId)),
+                bytes(getSeatsKey(roomId)), bytes(getPlayersKey(roomId)), bytes(getReadyKey(roomId)));
+            connection.zSetCommands().zRem(bytes(ROOM_INDEX_KEY), member);
+            connection.hashCommands().hDel(bytes(ROOM_COUNT_KEY), member);
+            releaseMembers(connection, roomId, memberIds);
+        });
         log.info("방 삭제 완료 - roomId {}", roomId);
     }
+
+    /**
+     * 인덱스 재구축 - 인덱스 도입 이전에 만들어진 방을 SCAN 으로 찾아 등록 (KEYS 사용 안 함)
+     * <p>
+     * 모든 노드가 시작할 때 실행되므로 운영 중인 방을 다시 쓰지 않습니다. 필드 단위로 저장된 방은 빠진 인덱스 항목만 스크립트로
+     * 채우고, room:{id}:state 가 없는 이전 형식의 방만 필드 단위 저장으로 옮깁니다(이전 형식 방은 스크립트가 ROOM_NOT_FOUND
+     * 로 거절하므로 옮기는 동안 바뀌지 않음).
+     */
+    public int rebuildIndex() {
+        int restored = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(ROOM_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (!ROOM_KEY_PATTERN.matcher(key).matches()) {
+                    continue;  // room:{id}:state 등 하위 키
+                }
+                Long roomId = Long.valueOf(key.substring(ROOM_KEY_PREFIX.length()));
+                if (reindex(roomId) || migrateLegacy(roomId)) {
+                    restored++;
+                }
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * 필드 단위로 저장된 방의 인덱스 항목 보충
+     *
+     * @return 이전 형식 방(state 없음)이면 false
+     */
+    private boolean reindex(Long roomId) {
+        Long result = write(() -> stringRedisTemplate.execute(REINDEX_SCRIPT,
+            List.of(getStateKey(roomId), getPlayersKey(roomId), getSeatsKey(roomId),
+                ROOM_INDEX_KEY, ROOM_COUNT_KEY, MEMBER_INDEX_KEY),
+            String.valueOf(roomId)));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 이전 형식 방을 필드 단위 저장으로 이전 - 노드 하나만 옮기도록 잠그고, 잠근 뒤에도 state 가 없을 때만 저장
+     */
+    private boolean migrateLegacy(Long roomId) {
+        String lockKey = getRoomKey(roomId) + ":migrating";
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", MIGRATE_LOCK_TTL))) {
+            return false;  // 다른 노드가 옮기는 중
+        }
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(getStateKey(roomId)))) {
+                return reindex(roomId);  // 그 사이 다른 노드가 옮김
+            }
+            RoomInfo roomInfo = findById(roomId);
+            if (roomInfo == null) {
+                return false;
+            }
+            save(roomId, roomInfo);
+            log.info("이전 형식 방 이전 - roomId {}", roomId);
+            return true;
+        } finally {
+            stringRedisTemplate.delete(lockKey);
+        }
+    }
+
+    /**
+     * 필드 단위로 저장된 참가자 정보를 RoomInfo 에 채움
+     */
+    private void assemble(RoomInfo roomInfo, Map<String, String> state, Map<String, String> seats,
+        Map<String, String> players, Set<String> ready) {
+        roomInfo.setActive("1".equals(state.get("active")));
+        roomInfo.setReadyCnt(Integer.parseInt(state.getOrDefault("readyCnt", "0")));
+
+        Map<Long, Participant> participants = new HashMap<>();
+        Map<Integer, Long> memberMapping = new HashMap<>();
+        for (Map.Entry<String, String> seat : seats.entrySet()) {
+            Long memberId = Long.valueOf(seat.getValue());
+            Participant participant = new Participant(memberId, players.get(seat.getValue()));
+            participant.setReady(ready.contains(seat.getValue()));
+            participants.put(memberId, participant);
+            memberMapping.put(Integer.valueOf(seat.getKey()), memberId);
+        }
+        roomInfo.setParticipant(participants);
+        roomInfo.setMemberMapping(memberMapping);
+    }
+
+    /**
+     * room:{id} 에 저장할 불변 정보만 복사 (참가자 정보는 필드 단위로 따로 저장)
+     */
+    private RoomInfo metadataOf(RoomInfo roomInfo) {
+        RoomInfo metadata = new RoomInfo(roomInfo.getRoomId(), roomInfo.getTitle(),
+            roomInfo.getPassword(), roomInfo.getRequiredPlayers(), roomInfo.getGameOption());
+        metadata.setHostId(roomInfo.getHostId());
+        metadata.setChat(roomInfo.getChat());
+        return metadata;
+    }
+
+    /**
+     * MULTI/EXEC 로 묶어 파이프라인 1회로 전송
+     */
+    private void writeAtomically(Consumer<RedisConnection> commands) {
+        write(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.multi();
+            commands.accept(connection);
+            connection.exec();
+            return null;
+        }));
+    }
+
+    /**
+     * 쓰기 실행 후 읽기 전용 조회 합류 차단 - 이 노드의 쓰기 뒤 조회가 쓰기 전 결과를 받지 않게 함
+     */
+    private <T> T write(Supplier<T> command) {
+        try {
+            return command.get();
+        } finally {
+            sharedLoader.invalidate();
+        }
+    }
+
+    private void releaseMembers(RedisConnection connection, Long roomId, Collection<Long> memberIds) {
+        byte[][] keysAndArgs = new byte[memberIds.size() + 2][];
+        keysAndArgs[0] = bytes(MEMBER_INDEX_KEY);
+        keysAndArgs[1] = bytes(String.valueOf(roomId));
+        int i = 2;
+        for (Long memberId : memberIds) {
+            keysAndArgs[i++] = bytes(String.valueOf(memberId));
+        }
+        connection.scriptingCommands().eval(RELEASE_MEMBERS_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(RoomInfo roomInfo) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(roomInfo);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 }
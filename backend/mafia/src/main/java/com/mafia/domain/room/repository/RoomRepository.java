@@ -1,7 +1,11 @@
 package com.mafia.domain.room.repository;
 
 import com.mafia.domain.room.model.entity.Room;
+import com.mafia.global.common.model.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -10,4 +14,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     // 기본 CRUD 메서드는 JpaRepository에서 제공
+
+    /**
+     * 방 상태 변경 - 엔티티 조회 없이 UPDATE 1회
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.status = :status, r.updatedAt = CURRENT_TIMESTAMP WHERE r.roomId = :roomId")
+    int updateStatus(@Param("roomId") Long roomId, @Param("status") Status status);
+
+    @Query("SELECT COALESCE(MAX(r.roomId), 0) FROM Room r")
+    long findMaxRoomId();
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.mafia.domain.room.service;
+
+import com.mafia.domain.room.model.dto.RoomChangedEvent;
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbySearchRequest;
+import com.mafia.domain.room.model.response.LobbyDelta;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.LobbySnapshot;
+import com.mafia.domain.room.model.response.RoomResponse;
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로비 방 목록 피드 - 변경된 방 ID 만 모아 두었다가 디바운스 주기마다 변경분(LobbyDelta)만 전송
+ * <p>
+ * 같은 변경 이벤트로 노드 메모리의 {@link LobbyIndex} 를 갱신하므로 로비 조회/검색도 Redis, MySQL 을 거치지 않습니다.
+ * <p>
+ * 방 변경은 Redis 채널(lobby-changed)로 모든 노드에 알리고, 각 노드는 자기 로비 상태와 버전을 유지합니다. 버전은 노드마다
+ * 따로 매기므로 스냅샷과 변경분에 피드 ID(feedId)를 함께 실어, 클라이언트는 변경분을 보내는 노드(같은 STOMP 세션)에서 받은
+ * 스냅샷에만 이어 적용하고 피드 ID 가 바뀌면(재접속, 노드 재시작) 스냅샷부터 다시 받습니다. MySQL 은 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbyFeedService {
+
+    public static final String LOBBY_DELTA_TOPIC = "/topic/lobby/delta";
+    private static final String LOBBY_CHANGED_CHANNEL = "lobby-changed";
+
+    private final RoomRedisRepository redisRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    private final String feedId = UUID.randomUUID().toString();
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+    private final LobbyIndex rooms = new LobbyIndex();  // lock 으로 보호
+    private final Object lock = new Object();
+    private long version = 0;
+    private LobbySnapshot cachedSnapshot;
+
+    /**
+     * 서버 시작 시 현재 방 목록 적재 및 변경 채널 구독 (방 인덱스 재구축 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void init() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                dirtyRooms.add(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+            new ChannelTopic(LOBBY_CHANGED_CHANNEL));
+
+        synchronized (lock) {
+            for (RoomInfo roomInfo : redisRepository.findAllById(redisRepository.getAllRoomIds())) {
+                rooms.put(toResponse(roomInfo));
+            }
+            cachedSnapshot = null;
+            log.info("로비 피드 초기화 - 방 개수: {}", rooms.size());
+        }
+    }
+
+    /**
+     * 방 변경 알림 - 모든 노드에 전파 (실제 전송은 다음 flush 에서)
+     */
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        stringRedisTemplate.convertAndSend(LOBBY_CHANGED_CHANNEL, String.valueOf(event.getRoomId()));
+    }
+
+    /**
+     * 디바운스 주기 동안 모인 변경 방만 MGET 으로 다시 읽어 변경분 전송
+     */
+    @Scheduled(fixedDelayString = "${lobby.broadcast.debounce-ms:200}")
+    public void flush() {
+        if (dirtyRooms.isEmpty()) {
+            return;
+        }
+        List<Long> roomIds = new ArrayList<>();
+        for (Iterator<Long> it = dirtyRooms.iterator(); it.hasNext(); ) {
+            roomIds.add(it.next());
+            it.remove();
+        }
+
+        Map<Long, RoomResponse> latest = new HashMap<>();
+        for (RoomInfo roomInfo : redisRepository.findAllById(roomIds)) {
+            latest.put(roomInfo.getRoomId(), toResponse(roomInfo));
+        }
+
+        LobbyDelta delta;
+        synchronized (lock) {
+            List<RoomResponse> added = new ArrayList<>();
+            List<RoomResponse> updated = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+
+            for (Long roomId : roomIds) {
+                RoomResponse before = rooms.get(roomId);
+                RoomResponse after = latest.get(roomId);
+                if (after == null) {
+                    if (rooms.remove(roomId) != null) {
+                        removed.add(roomId);
+                    }
+                } else if (before == null) {
+                    rooms.put(after);
+                    added.add(after);
+                } else if (!before.equals(after)) {
+                    rooms.put(after);
+                    updated.add(after);
+                }
+            }
+
+            if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            delta = new LobbyDelta(feedId, ++version, added, updated, removed);
+            cachedSnapshot = null;
+        }
+
+        messagingTemplate.convertAndSend(LOBBY_DELTA_TOPIC, delta);
+        log.debug("로비 변경분 전송 - version: {}, 추가: {}, 변경: {}, 삭제: {}", delta.getVersion(),
+            delta.getAdded().size(), delta.getUpdated().size(), delta.getRemoved().size());
+    }
+
+    /**
+     * 현재 로비 스냅샷 - 버전이 바뀌지 않았으면 캐시된 객체 재사용
+     */
+    public LobbySnapshot getSnapshot() {
+        synchronized (lock) {
+            if (cachedSnapshot == null) {
+                cachedSnapshot = new LobbySnapshot(feedId, version, rooms.all());
+            }
+            return cachedSnapshot;
+        }
+    }
+
+    /**
+     * 로비 검색 - 빈 자리, 시작 전, 비밀번호 없음, 제목 접두어 필터와 페이지 처리 (노드 메모리에서만 조회)
+     */
+    public LobbyPageResponse search(LobbySearchRequest request) {
+        synchronized (lock) {
+            return rooms.search(request, version);
+        }
+    }
+
+    private RoomResponse toResponse(RoomInfo roomInfo) {
+        RoomResponse response = new RoomResponse();
+        response.setRoomId(roomInfo.getRoomId());
+        response.setRoomTitle(roomInfo.getTitle());
+        response.setPeopleCnt(roomInfo.getParticipant().size());
+        response.setRequiredPlayers(roomInfo.getRequiredPlayers());
+        response.setStart(roomInfo.isActive());
+        // 빈 문자열은 비밀번호 없음 (JOIN 스크립트, save 와 동일)
+        response.setHasPassword(roomInfo.getPassword() != null && !roomInfo.getPassword().isEmpty());
+        return response;
+    }
+}
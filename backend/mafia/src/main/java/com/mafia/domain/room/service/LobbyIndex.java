@@ -0,0 +1,118 @@
+package com.mafia.domain.room.service;
+
+import com.mafia.domain.room.model.request.LobbySearchRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.RoomResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 노드 로컬 로비 인덱스 - 방 ID 순 목록과 제목 접두어 검색용 인덱스를 함께 유지
+ * <p>
+ * 동기화는 호출하는 쪽(LobbyFeedService)의 lock 으로 처리합니다.
+ */
+class LobbyIndex {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NavigableMap<Long, RoomResponse> rooms = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> titleIndex = new TreeMap<>();  // 소문자 제목 -> 방 ID
+
+    RoomResponse get(Long roomId) {
+        return rooms.get(roomId);
+    }
+
+    void put(RoomResponse room) {
+        RoomResponse before = rooms.put(room.getRoomId(), room);
+        if (before != null) {
+            unindexTitle(before);
+        }
+        titleIndex.computeIfAbsent(normalize(room.getRoomTitle()), k -> new HashSet<>())
+            .add(room.getRoomId());
+    }
+
+    RoomResponse remove(Long roomId) {
+        RoomResponse removed = rooms.remove(roomId);
+        if (removed != null) {
+            unindexTitle(removed);
+        }
+        return removed;
+    }
+
+    void clear() {
+        rooms.clear();
+        titleIndex.clear();
+    }
+
+    int size() {
+        return rooms.size();
+    }
+
+    List<RoomResponse> all() {
+        return List.copyOf(rooms.values());
+    }
+
+    /**
+     * 조건에 맞는 방을 방 ID 순으로 페이지 단위 조회
+     */
+    LobbyPageResponse search(LobbySearchRequest request, long version) {
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+        int pageNo = Math.max(request.getPage(), 0);
+        long offset = (long) pageNo * size;
+
+        Collection<Long> candidates = rooms.keySet();
+        String prefix = normalize(request.getTitlePrefix());
+        if (!prefix.isEmpty()) {
+            Set<Long> matched = new TreeSet<>();
+            titleIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()
+                .forEach(matched::addAll);
+            candidates = matched;
+        }
+
+        List<RoomResponse> page = new ArrayList<>(size);
+        int total = 0;
+        for (Long roomId : candidates) {
+            RoomResponse room = rooms.get(roomId);
+            if (!matches(room, request)) {
+                continue;
+            }
+            if (total >= offset && page.size() < size) {
+                page.add(room);
+            }
+            total++;
+        }
+        return new LobbyPageResponse(version, pageNo, size, total, page);
+    }
+
+    private boolean matches(RoomResponse room, LobbySearchRequest request) {
+        if (request.isOpenSlots() && room.getPeopleCnt() >= room.getRequiredPlayers()) {
+            return false;
+        }
+        if (request.isNotStarted() && room.isStart()) {
+            return false;
+        }
+        return !request.isNoPassword() || !room.isHasPassword();
+    }
+
+    private void unindexTitle(RoomResponse room) {
+        String title = normalize(room.getRoomTitle());
+        Set<Long> ids = titleIndex.get(title);
+        if (ids != null) {
+            ids.remove(room.getRoomId());
+            if (ids.isEmpty()) {
+                titleIndex.remove(title);
+            }
+        }
+    }
+
+    private static String normalize(String title) {
+        return title == null ? "" : title.strip().toLowerCase(Locale.ROOT);
+    }
+}
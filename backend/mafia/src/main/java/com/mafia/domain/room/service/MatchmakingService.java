@@ -0,0 +1,332 @@
+package com.mafia.domain.room.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_HAS_ROOM;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_IN_MATCHMAKING;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_IN_MATCHMAKING;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_INVALID_PLAYERS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.game.GameOption;
+import com.mafia.domain.game.service.GameService;
+import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.room.model.dto.RoomChangedEvent;
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.QuickJoinRequest;
+import com.mafia.domain.room.model.response.MatchmakingResult;
+import com.mafia.domain.room.repository.MatchmakingRedisRepository;
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 빠른 참가 매칭 서비스 - 대기열의 유저를 인원/게임 옵션이 같은 방에 자동 배정하고 정원이 차면 게임 시작
+ * <p>
+ * 모든 노드가 주기적으로 버킷별 대기자를 배치 단위로 꺼냅니다. 꺼내기는 Lua 스크립트라 노드끼리 같은 유저를 나눠 갖지 않고,
+ * 방 입장은 기존 입장 스크립트를 그대로 써서 정원 초과가 생기지 않습니다. 배정 결과는 Redis 채널(matchmaking-result)로
+ * 모든 노드에 전파하고, 유저의 WebSocket 세션이 있는 노드가 /user/queue/matchmaking 으로 전달합니다.
+ * <p>
+ * 채운 방은 RoomChangedEvent 로 로비 변경분/인덱스에 반영하고, 게임 시작은 gameStartExecutor 에 넘겨 매칭 주기(스케줄러
+ * 스레드)를 막지 않습니다.
+ */
+@Slf4j
+@Service
+public class MatchmakingService {
+
+    public static final String MATCHMAKING_DESTINATION = "/queue/matchmaking";
+    private static final String MATCHMAKING_RESULT_CHANNEL = "matchmaking-result";
+    private static final String ROOM_TITLE = "빠른 대전";
+
+    private final MatchmakingRedisRepository matchmakingRepository;
+    private final RoomRedisRepository roomRepository;
+    private final RoomRedisService roomRedisService;
+    private final RoomDbService roomDbService;
+    private final RoomPersistService roomPersistService;
+    private final RoomMessageService messageService;
+    private final GameService gameService;
+    private final MemberService memberService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor gameStartExecutor;
+    private final int batchSize;
+
+    public MatchmakingService(MatchmakingRedisRepository matchmakingRepository,
+        RoomRedisRepository roomRepository,
+        RoomRedisService roomRedisService,
+        RoomDbService roomDbService,
+        RoomPersistService roomPersistService,
+        RoomMessageService messageService,
+        GameService gameService,
+        MemberService memberService,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        SimpMessageSendingOperations messagingTemplate,
+        ObjectMapper objectMapper,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier("gameStartExecutor") Executor gameStartExecutor,
+        @Value("${matchmaking.batch-size:500}") int batchSize) {
+        this.matchmakingRepository = matchmakingRepository;
+        this.roomRepository = roomRepository;
+        this.roomRedisService = roomRedisService;
+        this.roomDbService = roomDbService;
+        this.roomPersistService = roomPersistService;
+        this.messageService = messageService;
+        this.gameService = gameService;
+        this.memberService = memberService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.gameStartExecutor = gameStartExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 배정 결과 채널 구독 - 이 노드에 연결된 유저에게만 실제로 전달됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                List<MatchmakingResult> results = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), new TypeReference<>() {
+                    });
+                for (MatchmakingResult result : results) {
+                    messagingTemplate.convertAndSendToUser(String.valueOf(result.getMemberId()),
+                        MATCHMAKING_DESTINATION, result);
+                }
+            } catch (JsonProcessingException e) {
+                log.error("빠른 참가 결과 파싱 실패: {}", e.getMessage());
+            }
+        }, new ChannelTopic(MATCHMAKING_RESULT_CHANNEL));
+    }
+
+    /**
+     * 빠른 참가 대기열 등록
+     */
+    public void enqueue(Long memberId, QuickJoinRequest request) {
+        int requiredPlayers = request.getRequiredPlayers();
+        if (requiredPlayers < 2 || requiredPlayers > 8) {
+            throw new BusinessException(ROOM_INVALID_PLAYERS);
+        }
+        if (roomRedisService.isMemberInRoom(memberId)) {
+            throw new BusinessException(ALREADY_HAS_ROOM);
+        }
+
+        GameOption gameOption = request.getGameOption() == null ? new GameOption() : request.getGameOption();
+        if (!matchmakingRepository.enqueue(memberId, bucketOf(requiredPlayers, gameOption))) {
+            throw new BusinessException(ALREADY_IN_MATCHMAKING);
+        }
+        log.info("빠른 참가 대기 등록 - memberId: {}, requiredPlayers: {}", memberId, requiredPlayers);
+    }
+
+    /**
+     * 빠른 참가 대기 취소
+     */
+    public void cancel(Long memberId) {
+        if (!matchmakingRepository.cancel(memberId)) {
+            throw new BusinessException(NOT_IN_MATCHMAKING);
+        }
+        log.info("빠른 참가 대기 취소 - memberId: {}", memberId);
+    }
+
+    /**
+     * 버킷별로 대기자를 배치 단위로 꺼내 방 배정 (배치가 가득 차면 같은 주기 안에서 계속 처리)
+     */
+    @Scheduled(fixedDelayString = "${matchmaking.interval-ms:100}")
+    public void match() {
+        for (String bucket : matchmakingRepository.getBuckets()) {
+            try {
+                int matched;
+                do {
+                    matched = matchBucket(bucket);
+                } while (matched == batchSize);
+            } catch (Exception e) {
+                log.error("빠른 참가 매칭 실패 - bucket: {}, error: {}", bucket, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 대기자 배치 1개 처리 - 기존 빠른 참가 방을 먼저 채우고 남은 인원으로 새 방 생성
+     *
+     * @return 꺼낸 대기자 수
+     */
+    private int matchBucket(String bucket) {
+        List<Long> polled = matchmakingRepository.poll(bucket, batchSize);
+        if (polled.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> nicknames = memberService.getNicknames(polled);  // 배치당 1회 조회
+        Deque<Long> waiting = new ArrayDeque<>();
+        polled.stream().filter(nicknames::containsKey).forEach(waiting::add);
+
+        int requiredPlayers = requiredPlayersOf(bucket);
+        List<MatchmakingResult> results = new ArrayList<>();
+        Set<Long> touchedRooms = new LinkedHashSet<>();
+        try {
+            for (Long roomId : matchmakingRepository.getOpenRooms(bucket)) {
+                if (waiting.isEmpty()) {
+                    break;
+                }
+                fillRoom(bucket, roomId, waiting, nicknames, results, touchedRooms);
+            }
+
+            while (!waiting.isEmpty()) {
+                Long hostId = waiting.peek();
+                if (roomRedisService.isMemberInRoom(hostId)) {
+                    waiting.poll();  // 대기 중에 직접 다른 방에 들어간 유저
+                    continue;
+                }
+                long roomId = roomPersistService.nextRoomId();
+                roomRedisService.createRoomInfo(roomId, hostId, requiredPlayers, ROOM_TITLE, null,
+                    gameOptionOf(bucket));
+                waiting.poll();  // 방이 만들어진 뒤에 꺼냄 - 실패하면 방장 될 유저도 다시 대기열로
+                roomPersistService.enqueue(roomId);
+                matchmakingRepository.addOpenRoom(bucket, roomId);
+
+                results.add(new MatchmakingResult(hostId, roomId, 1, false));
+                touchedRooms.add(roomId);
+                fillRoom(bucket, roomId, waiting, nicknames, results, touchedRooms);
+            }
+        } catch (Exception e) {
+            matchmakingRepository.requeueFront(bucket, List.copyOf(waiting));  // 배정 못 한 유저는 순서 유지
+            throw e;
+        }
+
+        Set<Long> startedRooms = new HashSet<>();
+        for (Long roomId : touchedRooms) {
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId));  // 로비 변경분, 로비 인덱스 반영
+            if (startIfFull(bucket, roomId, requiredPlayers)) {
+                startedRooms.add(roomId);
+            } else {
+                messageService.sendRoomUpdate(roomId);
+            }
+        }
+        results.forEach(result -> result.setStarted(startedRooms.contains(result.getRoomId())));
+        publishResults(results);
+
+        log.info("빠른 참가 배정 - bucket: {}, 대기자: {}, 배정: {}, 시작된 방: {}",
+            bucket, polled.size(), results.size(), startedRooms.size());
+        return polled.size();
+    }
+
+    /**
+     * 방이 찰 때까지 대기자 입장 - 입장과 동시에 준비 완료 처리
+     */
+    private void fillRoom(String bucket, Long roomId, Deque<Long> waiting, Map<Long, String> nicknames,
+        List<MatchmakingResult> results, Set<Long> touchedRooms) {
+        while (!waiting.isEmpty()) {
+            Long memberId = waiting.peek();
+            long participantNo = roomRepository.join(roomId, memberId, nicknames.get(memberId), null);
+
+            if (participantNo == RoomRedisRepository.RESULT_ALREADY_JOINED) {
+                waiting.poll();  // 대기 중에 직접 다른 방에 들어간 유저
+                continue;
+            }
+            if (participantNo < 0) {
+                matchmakingRepository.removeOpenRoom(bucket, roomId);  // 삭제, 시작, 정원 초과된 방
+                return;
+            }
+
+            waiting.poll();
+            roomRepository.toggleReady(roomId, memberId);
+            results.add(new MatchmakingResult(memberId, roomId, (int) participantNo, false));
+            touchedRooms.add(roomId);
+        }
+    }
+
+    /**
+     * 정원이 찬 방은 방장 대신 시작 처리 - 방 상태만 바로 바꾸고 게임 생성과 시작 메시지 전송은 gameStartExecutor 에서 실행
+     *
+     * @return 방을 시작 상태로 바꿨으면 true
+     */
+    private boolean startIfFull(String bucket, Long roomId, int requiredPlayers) {
+        RoomInfo roomInfo = roomRepository.findById(roomId);
+        if (roomInfo == null || roomInfo.getParticipant().size() < requiredPlayers) {
+            return false;
+        }
+        matchmakingRepository.removeOpenRoom(bucket, roomId);
+
+        try {
+            roomRedisService.startGame(roomId, roomInfo.getHostId());
+            roomDbService.isActive(roomId);
+        } catch (Exception e) {
+            log.error("빠른 참가 방 게임 시작 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+            return false;
+        }
+
+        gameStartExecutor.execute(() -> {
+            try {
+                boolean isStart = gameService.startGame(roomId);
+                messagingTemplate.convertAndSend("/topic/room/" + roomId,
+                    objectMapper.writeValueAsString(Map.of("gameStart", String.valueOf(isStart))));
+            } catch (Exception e) {
+                log.error("빠른 참가 방 게임 시작 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    private void publishResults(List<MatchmakingResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(MATCHMAKING_RESULT_CHANNEL, objectMapper.writeValueAsString(results));
+        } catch (JsonProcessingException e) {
+            log.error("빠른 참가 결과 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버킷 키 - 인원:좀비:변종:의사 능력:밤 시간:토론 시간
+     */
+    private static String bucketOf(int requiredPlayers, GameOption gameOption) {
+        return String.format("%d:%d:%d:%d:%d:%d", requiredPlayers, gameOption.getZombie(),
+            gameOption.getMutant(), gameOption.getDoctorSkillUsage(), gameOption.getNightTimeSec(),
+            gameOption.getDayDisTimeSec());
+    }
+
+    private static int requiredPlayersOf(String bucket) {
+        return Integer.parseInt(bucket.split(":")[0]);
+    }
+
+    private static GameOption gameOptionOf(String bucket) {
+        String[] values = bucket.split(":");
+        GameOption gameOption = new GameOption();
+        gameOption.setZombie(Integer.parseInt(values[1]));
+        gameOption.setMutant(Integer.parseInt(values[2]));
+        gameOption.setDoctorSkillUsage(Integer.parseInt(values[3]));
+        gameOption.setNightTimeSec(Integer.parseInt(values[4]));
+        gameOption.setDayDisTimeSec(Integer.parseInt(values[5]));
+        return gameOption;
+    }
+}
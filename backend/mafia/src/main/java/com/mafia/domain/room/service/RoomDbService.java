@@ -3,24 +3,21 @@ package com.mafia.domain.room.service;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_HAS_ROOM;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.LENGTH_PASSWORD;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_INVALID_PLAYERS;
-import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_NOT_FOUND;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_TITLE_INVALID;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_TITLE_LIMIT;
 
-import com.mafia.domain.room.model.entity.Room;
 import com.mafia.domain.room.model.redis.RoomInfo;
 import com.mafia.domain.room.model.request.RoomRequest;
 import com.mafia.domain.room.model.response.RoomEnterResponse;
 import com.mafia.domain.room.model.response.RoomIdResponse;
-import com.mafia.domain.room.model.response.RoomResponse;
 import com.mafia.domain.room.repository.RoomRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
-import java.util.ArrayList;
+import com.mafia.global.common.model.enums.Status;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map.Entry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,9 +32,10 @@ public class RoomDbService {
 
     private final RoomRepository DbRoomRepository;
     private final RoomRedisService roomRedisService;
+    private final RoomPersistService roomPersistService;
 
     /**
-     * 새로운 게임방 생성 - 방 생성 후 RDB 저장 및 Redis 캐싱
+     * 새로운 게임방 생성 - Redis 에 바로 생성하고 RDB 저장은 RoomPersistService 에 맡김
      */
     public RoomIdResponse createRoom(RoomRequest roomRequest, Long memberId) {
         log.info("방 생성 요청 - title: {}, requiredPlayers: {}, password: {}",
@@ -69,45 +67,17 @@ public class RoomDbService {
             throw new BusinessException(ALREADY_HAS_ROOM);
         }  // 중복 참여 체크
 
-        // RDB 방 생성
-        Room room = new Room();
-        room.setHostId(memberId);
-        room.setTitle(roomRequest.getTitle().trim());
-        room.setPassword(roomRequest.getPassword());
-        room.setRequiredPlayers(roomRequest.getRequiredPlayers());
-        room.changeStatusToInActive();
-        Room savedRoom = DbRoomRepository.save(room);
+        // Redis 방 생성 ( Redis 카운터로 ID 발급, Redis 만 게임 옵션 저장 )
+        long roomId = roomPersistService.nextRoomId();
+        roomRedisService.createRoomInfo(roomId, memberId, requiredPlayers,
+            roomRequest.getTitle().trim(), password, roomRequest.getGameOption());
 
-        // Redis 방 생성 ( Redis 만 게임 옵션 저장 )
-        roomRedisService.createRoomInfo(savedRoom.getRoomId(), savedRoom.getHostId(),
-            roomRequest.getRequiredPlayers(), savedRoom.getTitle(), savedRoom.getPassword(),
-            roomRequest.getGameOption());
+        // RDB 방 저장은 배치로 비동기 처리
+        roomPersistService.enqueue(roomId);
 
         log.info("방 생성 완료 - 방 번호: {}, 방장: {}, 게임 옵션: {}\n",
-            room.getRoomId(), room.getHostId(), roomRequest.getGameOption());
-        return new RoomIdResponse(savedRoom.getRoomId());
-    }
-
-    /**
-     * 전체 게임방 목록 조회 - RDB의 방 정보와 Redis의 실시간 인원 정보를 조합하여 반환
-     */
-    public List<RoomResponse> getAllRooms() {
-        List<Room> rooms = DbRoomRepository.findAll();
-        HashMap<Long, Integer> allRoomInfo = roomRedisService.getRoomPlayerCounts();
-        List<RoomResponse> roomList = new ArrayList<>();
-
-        // 각 방의 게임 목록 조회 (제목, 방ID, 현재 인원)
-        for (Room room : rooms) {
-            RoomResponse roomResponse = new RoomResponse();
-            roomResponse.setRoomId(room.getRoomId());
-            roomResponse.setRoomTitle(room.getTitle());
-            roomResponse.setPeopleCnt(allRoomInfo.getOrDefault(room.getRoomId(), 0));
-            roomResponse.setRequiredPlayers(room.getRequiredPlayers());
-            roomResponse.setStart(false);
-            roomList.add(roomResponse);
-        }
-
-        return roomList;
+            roomId, memberId, roomRequest.getGameOption());
+        return new RoomIdResponse(roomId);
     }
 
     /**
@@ -116,7 +86,7 @@ public class RoomDbService {
     @Transactional(readOnly = true)
     public RoomInfo getRoom(Long roomId) {
 
-        RoomInfo originRoomInfo = roomRedisService.findById(roomId);
+        RoomInfo originRoomInfo = roomRedisService.findByIdShared(roomId);
 
         // 새로운 RoomInfo 객체 생성 필요한 데이터만 복사
         RoomInfo copyRoomInfo = new RoomInfo(
@@ -146,20 +116,21 @@ public class RoomDbService {
     }
 
     /**
-     * 게임 시작 상태로 변경
+     * 게임 시작 상태로 변경 - 기록용이므로 게임 시작 흐름을 막지 않도록 비동기 UPDATE (짧은 작업이므로 게임마다 스레드를
+     * 점유하는 gameTaskExecutor 대신 gameStartExecutor 에서 실행)
      */
+    @Async("gameStartExecutor")
     public void isActive(Long roomId) {
-        Room room = DbRoomRepository.findById(roomId)
-            .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
-
-        room.changeStatusToActive();
+        if (DbRoomRepository.updateStatus(roomId, Status.ACTIVE) == 0) {
+            log.warn("방 상태 변경 대상 없음 - roomId: {}", roomId);
+        }
     }
 
     /**
      * 방 내부에서 참가자 번호(본인) 조회
      */
     public RoomEnterResponse searchParticipantNo(Long roomId, Long memberId) {
-        RoomInfo roomInfo = roomRedisService.findById(roomId);
+        RoomInfo roomInfo = roomRedisService.findByIdShared(roomId);
 
         int participantNo = roomInfo.getMemberMapping().entrySet().stream()
             .filter(entry -> entry.getValue().equals(memberId))
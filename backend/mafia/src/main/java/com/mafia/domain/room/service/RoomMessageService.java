@@ -3,9 +3,7 @@ package com.mafia.domain.room.service;
 import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
 import com.mafia.domain.room.model.response.RoomParticipantResponse;
-import com.mafia.domain.room.model.response.RoomResponse;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import lombok.RequiredArgsConstructor;
@@ -23,29 +21,12 @@ public class RoomMessageService {
 
     private final SimpMessageSendingOperations messagingTemplate;
     private final RoomRedisService roomRedisService;
-    private final RoomDbService roomDbService;
-
-    /**
-     * 로비의 전체 방 목록 전송 - 각 방의 현재 인원수 정보를 포함
-     */
-    public void sendRoomListToAll() {
-        HashMap<Long, Integer> roomPlayerCounts = roomRedisService.getRoomPlayerCounts();
-        List<RoomResponse> rooms = roomDbService.getAllRooms();
-
-        // Redis 데이터로 현재 인원 업데이트
-        for (RoomResponse room : rooms) {
-            room.setPeopleCnt(roomPlayerCounts.getOrDefault(room.getRoomId(), 0));
-        }
-
-        log.info("로비 방 목록 전송 - 전체 방 개수: {}\n", rooms.size());
-        messagingTemplate.convertAndSend("/topic/lobby", rooms);
-    }
 
     /**
      * 방 참가자들에게 실시간 참가자 정보를 전송
      */
     public void sendRoomUpdate(Long roomId) {
-        RoomInfo roomInfo = roomRedisService.findById(roomId);
+        RoomInfo roomInfo = roomRedisService.findByIdShared(roomId);
         Map<Integer, RoomParticipantResponse> participantInfo = new HashMap<>();
 
         for (Entry<Integer, Long> entry : roomInfo.getMemberMapping().entrySet()) {
@@ -68,20 +49,4 @@ public class RoomMessageService {
 
         messagingTemplate.convertAndSend("/topic/room/" + roomId, participantInfo);
     }
-
-    public void sendRoomStart(Long roomId) {
-        List<RoomResponse> rooms = roomDbService.getAllRooms();
-
-        for (RoomResponse room : rooms) {
-            if (room.getRoomId().equals(roomId)) {
-                room.setStart(true);
-            }
-        }
-
-        log.info("게임 시작 알림 - roomId: {}, 게임 진행중인 방 개수: {}\n",
-            roomId,
-            rooms.stream().filter(RoomResponse::isStart).count());
-
-        messagingTemplate.convertAndSend("/topic/lobby", rooms);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.mafia.domain.room.service;
+
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import com.mafia.domain.room.repository.RoomRepository;
+import com.mafia.global.common.model.enums.Status;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 MySQL 저장 서비스 (write-behind)
+ * <p>
+ * 방 ID 는 Redis 카운터에서 발급하고 방은 Redis 에 바로 생성됩니다. MySQL 의 Room 행은 Redis 대기열(rooms:persist-queue)에
+ * 쌓였다가 주기적으로 배치 INSERT 됩니다. 꺼낸 항목은 커밋 후에야 저장 중 목록에서 지우므로, 실패하거나 노드가 죽으면 임대가
+ * 끝난 뒤 어느 노드든 다시 저장합니다(실패한 노드는 점점 긴 간격으로 재시도).
+ * <p>
+ * 같은 방을 두 번 저장하면(커밋 직후 노드 종료) 기본 키 중복이 나는데, 이미 있는 행이 같은 방이면 저장된 것으로 봅니다. 다른
+ * 방이면 Redis 카운터가 초기화되어 ID 가 겹친 것이므로 오류로 남기고 카운터를 MySQL 최대 ID 이상으로 올립니다. 그 밖의 제약
+ * 위반(길이 초과 등)도 방별로 오류를 남기며, 이런 행이 배치 전체를 막지 않도록 배치가 실패하면 한 건씩 다시 저장합니다.
+ */
+@Slf4j
+@Service
+public class RoomPersistService {
+
+    private static final String INSERT_ROOM_SQL =
+        "INSERT INTO room (room_id, host_id, title, password, required_players, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FIND_ROOM_SQL = "SELECT host_id, title FROM room WHERE room_id = ?";
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final RoomRedisRepository redisRepository;
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long retryBaseMs;
+    private final long leaseMs;
+
+    private int consecutiveFailures = 0;
+    private long retryAt = 0;
+
+    public RoomPersistService(RoomRedisRepository redisRepository,
+        RoomRepository roomRepository,
+        JdbcTemplate jdbcTemplate,
+        @Value("${room.persist.batch-size:200}") int batchSize,
+        @Value("${room.persist.retry-base-ms:1000}") long retryBaseMs,
+        @Value("${room.persist.lease-ms:30000}") long leaseMs) {
+        this.redisRepository = redisRepository;
+        this.roomRepository = roomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.retryBaseMs = retryBaseMs;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * 서버 시작 시 방 ID 카운터를 MySQL 최대 ID 이상으로 맞춤 (IDENTITY 로 만들어진 기존 방과 충돌 방지)
+     */
+    @PostConstruct
+    public void syncRoomIdSequence() {
+        long sequence = redisRepository.raiseRoomIdSequence(roomRepository.findMaxRoomId());
+        log.info("방 ID 카운터 동기화 - 현재 값: {}", sequence);
+    }
+
+    /**
+     * 새 방 ID 발급
+     */
+    public long nextRoomId() {
+        return redisRepository.nextRoomId();
+    }
+
+    /**
+     * MySQL 저장 예약
+     */
+    public void enqueue(Long roomId) {
+        redisRepository.enqueuePersist(roomId);
+    }
+
+    /**
+     * 대기열의 방을 배치 INSERT (실패 시 임대가 끝나면 다시 처리, 이 노드는 재시도 대기)
+     */
+    @Scheduled(fixedDelayString = "${room.persist.flush-interval-ms:500}")
+    public void flush() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+
+        List<Long> roomIds;
+        while (!(roomIds = claim()).isEmpty()) {
+            try {
+                int saved = persist(roomIds);
+                redisRepository.ackPersist(roomIds);
+                consecutiveFailures = 0;
+                log.debug("방 MySQL 저장 - 요청: {}, 저장: {}", roomIds.size(), saved);
+            } catch (Exception e) {
+                consecutiveFailures++;
+                long backoff = Math.min(retryBaseMs << Math.min(consecutiveFailures - 1, 10), MAX_BACKOFF_MS);
+                retryAt = System.currentTimeMillis() + backoff;
+                log.error("방 MySQL 저장 실패 ({}회 연속) - {}ms 후 재시도: {}", consecutiveFailures, backoff,
+                    e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private List<Long> claim() {
+        long now = System.currentTimeMillis();
+        return redisRepository.claimPersist(now, now + leaseMs, batchSize);
+    }
+
+    /**
+     * Redis 에 남아 있는 방만 저장 (그 사이 삭제된 방은 건너뜀)
+     *
+     * @return 새로 저장했거나 이미 저장되어 있던 방 수
+     */
+    private int persist(List<Long> roomIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(roomIds.size());
+        for (RoomInfo roomInfo : redisRepository.findAllById(roomIds)) {
+            rows.add(new Object[]{
+                roomInfo.getRoomId(),
+                roomInfo.getHostId(),
+                roomInfo.getTitle(),
+                roomInfo.getPassword(),
+                roomInfo.getRequiredPlayers(),
+                (roomInfo.isActive() ? Status.ACTIVE : Status.INACTIVE).name(),
+                now,
+                now
+            });
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_ROOM_SQL, rows);
+            return rows.size();
+        } catch (DataIntegrityViolationException e) {
+            // 중복, 제약 위반 행을 가려내기 위해 한 건씩 저장 (앞서 들어간 행은 같은 방 중복으로 처리됨)
+            int saved = 0;
+            for (Object[] row : rows) {
+                if (insertOne(row)) {
+                    saved++;
+                }
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * 한 건 저장 - 제약 위반은 방별로 처리하고 그 밖의 오류(연결 끊김 등)는 배치 재시도로 넘김
+     *
+     * @return 저장됐거나 이미 같은 방이 저장되어 있으면 true
+     */
+    private boolean insertOne(Object[] row) {
+        Long roomId = (Long) row[0];
+        try {
+            jdbcTemplate.update(INSERT_ROOM_SQL, row);
+            return true;
+        } catch (DuplicateKeyException e) {
+            if (isSameRoom(roomId, (Long) row[1], (String) row[2])) {
+                return true;  // 이전 시도에서 커밋된 행
+            }
+            long sequence = redisRepository.raiseRoomIdSequence(roomRepository.findMaxRoomId());
+            log.error("방 ID 충돌 - roomId {} 가 MySQL 의 다른 방과 겹쳐 저장하지 못함 (방 ID 카운터를 {} 로 올림)",
+                roomId, sequence);
+            return false;
+        } catch (DataIntegrityViolationException e) {
+            log.error("방 MySQL 저장 불가 - roomId {}: {}", roomId, e.getMostSpecificCause().getMessage());
+            return false;
+        }
+    }
+
+    private boolean isSameRoom(Long roomId, Long hostId, String title) {
+        return jdbcTemplate.query(FIND_ROOM_SQL, rs -> {
+            if (!rs.next()) {
+                return false;
+            }
+            long existingHostId = rs.getLong("host_id");
+            Long existing = rs.wasNull() ? null : existingHostId;
+            return Objects.equals(existing, hostId) && Objects.equals(rs.getString("title"), title);
+        }, roomId);
+    }
+}
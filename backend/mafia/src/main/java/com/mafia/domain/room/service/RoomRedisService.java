@@ -1,5 +1,6 @@
 package com.mafia.domain.room.service;
 
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_HAS_ROOM;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.GAME_ALREADY_STARTED;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.HOST_CANNOT_READY;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.INVALID_PASSWORD;
@@ -12,9 +13,11 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_NOT_FOUN
 import static com.mafia.global.common.model.dto.BaseResponseStatus.UNAUTHORIZED_ACCESS;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.UNAUTHORIZED_HOST_ACTION;
 
+import com.mafia.domain.game.model.dto.GameEndEvent;
 import com.mafia.domain.game.model.game.GameOption;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.room.model.dto.RoomChangedEvent;
 import com.mafia.domain.room.model.entity.Room;
 import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
@@ -23,11 +26,17 @@ import com.mafia.domain.room.repository.RoomRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
 import com.mafia.global.common.service.RoomSubscription;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +54,7 @@ public class RoomRedisService {
     private final RoomRepository DbRoomRepository;
     private final MemberService memberService;
     private final RoomSubscription subscription;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Redis에서 방 정보 조회
@@ -54,6 +64,14 @@ public class RoomRedisService {
             .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
     }
 
+    /**
+     * 읽기 전용 방 조회 - 동시에 들어온 같은 방 조회는 한 번만 읽어 공유 (반환 객체 수정, 저장 금지)
+     */
+    public RoomInfo findByIdShared(long roomId) {
+        return Optional.ofNullable(redisRepository.findByIdShared(roomId))
+            .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
+    }
+
     /**
      * 방 생성 및 초기 설정 - 방장을 첫 참가자로 등록하고 방 구독 처리
      */
@@ -65,11 +83,13 @@ public class RoomRedisService {
 
             // 기본 방 정보 설정  ->  방 생성 시 1번은 항상 방장
             RoomInfo roomInfo = new RoomInfo(roomId, title, password, requiredPlayer, gameOption);
+            roomInfo.setHostId(hostId);
             roomInfo.getParticipant().put(hostId, host);  // 참가자 맵:    방장 memberId - 유저 정보
             roomInfo.getMemberMapping().put(1, hostId);   // 멤버 매핑 맵: 참가자 번호 - 방장 memberId
 
             subscription.subscribe(roomId);
             redisRepository.save(roomId, roomInfo);
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId));
         } catch (Exception e) {
             log.error("Redis 방 생성 실패: roomId={}, error={}", roomId, e.getMessage());
             throw new BusinessException(ROOM_CREATE_FAIL);
@@ -77,64 +97,35 @@ public class RoomRedisService {
     }
 
     /**
-     * 방 입장 처리 - 중복 입장, 비밀번호, 정원 초과 등 체크 후 입장 처리
+     * 방 입장 처리 - 게임 진행 여부, 중복 입장, 비밀번호, 정원 확인과 참가자 번호 할당을 Redis 스크립트 1회로 처리
      */
     public void enterRoom(Long roomId, Long memberId, String password) {
-        RoomInfo roomInfo = findById(roomId);
         log.debug("방 입장 시도 - roomId: {}, memberId: {}", roomId, memberId);
 
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
-
-        if (isHost(roomId, memberId)) {
-            log.debug("방장의 중복 입장 시도 무시 - roomId: {}, memberId: {}", roomId, memberId);
-            return;
-        }   // roomDbService.createRoom에서 이미 Redis에 방 생성됨
-
-        if (isMemberInRoom(memberId)) {
-            log.info("다른 방에 참여 중: roomId={}, memberId={}", roomId, memberId);
-            return;
-        }
-
-        if (roomInfo.getPassword() != null && !roomInfo.getPassword().equals(password)) {
-            throw new BusinessException(INVALID_PASSWORD);
-        }
-
-        if (roomInfo.getParticipant().size() >= roomInfo.getRequiredPlayers()) {
-            throw new BusinessException(ROOM_FULL);
-        }
-
-        int newParticipantNo = 2;  // 1번은 방장
-        while (roomInfo.getMemberMapping().containsKey(newParticipantNo)) {
-            newParticipantNo++;
-        }  // 새로운 참가자 번호 할당 (가장 작은 빈 번호)
-
         // 참가자 정보 생성 (회원 ID, 닉네임)
         MemberResponse memberInfo = memberService.getMemberInfo(memberId);
-        Participant participant = new Participant(memberId, memberInfo.getNickname());
+        long participantNo = redisRepository.join(roomId, memberId, memberInfo.getNickname(), password);
 
-        // 참가자 맵과 멤버 매핑 맵에 추가
-        roomInfo.getParticipant().put(memberId, participant);
-        roomInfo.getMemberMapping().put(newParticipantNo, memberId);
+        if (participantNo == RoomRedisRepository.RESULT_ALREADY_JOINED) {
+            log.info("이미 방에 참여 중: roomId={}, memberId={}", roomId, memberId);
+            return;
+        }   // 방장은 방 생성 시 이미 참여 처리됨
+        validateResult(participantNo);
 
-        redisRepository.save(roomId, roomInfo);
-        log.info("방 입장 완료 - roomId: {}, title: {}, participantNo: {}, memberId: {}, nickname: {}\n",
-            roomId, roomInfo.getTitle(), newParticipantNo, memberId, participant.getNickName());
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId));
+        log.info("방 입장 완료 - roomId: {}, participantNo: {}, memberId: {}, nickname: {}\n",
+            roomId, participantNo, memberId, memberInfo.getNickname());
     }
 
     /**
      * 방 퇴장 처리 - 방장 퇴장시 방 삭제, 일반 유저는 참가자 목록에서 제거
      */
     public void leaveRoom(Long roomId, Long memberId) {
-        RoomInfo roomInfo = findById(roomId);
-        int participantNo = roomInfo.getpartNoByMemberId(memberId);
         log.info("방 퇴장 요청 - roomId: {}, memberId: {}", roomId, memberId);
 
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
-
-        // 참가자 맵과 멤버 매핑 맵에서 제거
-        roomInfo.getParticipant().remove(memberId);
-        roomInfo.getMemberMapping().remove(participantNo);
-        redisRepository.save(roomId, roomInfo);
+        long participantNo = redisRepository.leave(roomId, memberId);
+        validateResult(participantNo);
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId));
 
         log.info("방 퇴장 완료 - roomId: {}, participantNo: {}\n", roomId, participantNo);
     }
@@ -149,46 +140,28 @@ public class RoomRedisService {
 
         validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
 
-        if (!isHost(roomId, hostMemberId)) {
+        if (!isHost(roomInfo, hostMemberId)) {
             throw new BusinessException(UNAUTHORIZED_HOST_ACTION);
         }
 
-        leaveRoom(roomId, roomInfo.getMemberMapping().get(targetParticipantNo));
+        Long targetMemberId = roomInfo.getMemberMapping().get(targetParticipantNo);
+        if (targetMemberId == null) {
+            throw new BusinessException(PLAYER_NOT_FOUND);
+        }
+        leaveRoom(roomId, targetMemberId);
     }
 
     /**
-     * 게임 준비 상태 토글 - 방장 제외 참가자의 준비 상태 변경
+     * 게임 준비 상태 토글 - 방장 제외 참가자의 준비 상태 변경 (준비 인원은 스크립트에서 함께 증감)
      */
     public void toggleReady(Long roomId, Long memberId) {
-        RoomInfo roomInfo = findById(roomId);
-        int participantNo = roomInfo.getpartNoByMemberId(memberId);
-        log.info("준비 상태 변경 - roomId: {}, memberId: {}, participantNo: {}", roomId, memberId,
-            participantNo);
+        log.info("준비 상태 변경 - roomId: {}, memberId: {}", roomId, memberId);
 
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
+        List<Long> result = redisRepository.toggleReady(roomId, memberId);
+        validateResult(result.get(0));
 
-        if (isHost(roomId, memberId)) {
-            throw new BusinessException(HOST_CANNOT_READY);
-        }
-
-        Participant participant = roomInfo.getParticipant().get(memberId);
-        if (participant == null) {
-            throw new BusinessException(PLAYER_NOT_FOUND);
-        }
-
-        participant.setReady(!participant.isReady());
-
-        int curReadyCnt = (int) roomInfo.getParticipant().entrySet().stream()
-            .filter(entry -> entry.getValue().isReady())
-            .count();          // 전체 참가자 중 준비된 사람 수 계산
-
-        roomInfo.setReadyCnt(curReadyCnt);
-        redisRepository.save(roomId, roomInfo);
-
-        log.info(
-            "준비 상태 변경 완료 - roomId: {}, participantNo: {}, nickName: {}, ready: {}, curReady / allReady: {} / {}\n",
-            roomId, participantNo, participant.getNickName(), !participant.isReady(),
-            roomInfo.getReadyCnt(), roomInfo.getParticipant().size() - 1);
+        log.info("준비 상태 변경 완료 - roomId: {}, memberId: {}, ready: {}, curReady: {}\n",
+            roomId, memberId, result.get(0) == 1, result.get(1));
     }
 
     /**
@@ -196,23 +169,12 @@ public class RoomRedisService {
      */
     public void startGame(Long roomId, Long memberId) {
         log.info("게임 시작 요청 - roomId: {}, hostId: {}", roomId, memberId);
-        RoomInfo roomInfo = findById(roomId);
 
-        if (!isHost(roomId, memberId)) {
-            throw new BusinessException(UNAUTHORIZED_ACCESS);
-        }
-
-        if (roomInfo.getParticipant().size() != roomInfo.getRequiredPlayers()) {
-            throw new BusinessException(PLAYER_COUNT_INVALID);
-        }
-
-        if (roomInfo.getReadyCnt() != roomInfo.getParticipant().size() - 1) {
-            throw new BusinessException(NOT_ALL_READY);
-        }
+        long playerCount = redisRepository.start(roomId, memberId);
+        validateResult(playerCount);
 
-        roomInfo.setActive(true);  // 게임 상태 변경
-        redisRepository.save(roomId, roomInfo);
-        log.info("게임 시작 완료 - roomId: {}, gameActive: {}\n", roomId, roomInfo.isActive());
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId));
+        log.info("게임 시작 완료 - roomId: {}, 인원: {}\n", roomId, playerCount);
     }
 
     /**
@@ -220,7 +182,25 @@ public class RoomRedisService {
      */
     public void deleteById(Long roomId) {
         subscription.unsubscribe(roomId);
-        redisRepository.delete(roomId);
+        List<Long> memberIds = Optional.ofNullable(redisRepository.findById(roomId))
+            .map(roomInfo -> List.copyOf(roomInfo.getMemberMapping().values()))
+            .orElse(List.of());
+        redisRepository.delete(roomId, memberIds);
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId));
+    }
+
+    /**
+     * 게임 종료 시 참가자들의 방 참여 인덱스 해제 (방 ID == 게임 ID)
+     */
+    @EventListener
+    public void releaseMembersOnGameEnd(GameEndEvent event) {
+        Long roomId = event.getGameId();
+        RoomInfo roomInfo = redisRepository.findById(roomId);
+        if (roomInfo == null) {
+            return;
+        }
+        redisRepository.releaseMembers(roomId, List.copyOf(roomInfo.getMemberMapping().values()));
+        log.info("게임 종료 - 방 참여 인덱스 해제: roomId={}", roomId);
     }
 
     /**
@@ -230,30 +210,81 @@ public class RoomRedisService {
         return redisRepository.getRoomPlayerCounts();
     }
 
+    /**
+     * 서버 시작 시 방 인덱스 재구축 (인덱스 도입 이전 방 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuildRoomIndex() {
+        int restored = redisRepository.rebuildIndex();
+        log.info("방 인덱스 재구축 완료 - 방 개수: {}", restored);
+    }
+
     /**
      * 방장 여부 확인
      */
     public boolean isHost(Long roomId, Long memberId) {
-        Room room = DbRoomRepository.findById(roomId)
-            .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
-        return Objects.equals(room.getHostId(), memberId);
+        return isHost(findById(roomId), memberId);
+    }
+
+    /**
+     * 방장 여부 확인 - 이미 조회한 RoomInfo 의 hostId 사용 (hostId 도입 이전 방만 MySQL 조회)
+     */
+    private boolean isHost(RoomInfo roomInfo, Long memberId) {
+        Long hostId = roomInfo.getHostId();
+        if (hostId == null) {
+            hostId = DbRoomRepository.findById(roomInfo.getRoomId())
+                .map(Room::getHostId)
+                .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
+        }
+        return Objects.equals(hostId, memberId);
     }
 
     /**
      * 유저의 중복 참여 확인
      */
     public boolean isMemberInRoom(Long memberId) {
-        Set<String> allRoomKeys = redisRepository.getAllRooms();
+        return redisRepository.findRoomIdByMemberId(memberId) != null;  // member -> roomId 역인덱스 조회
+    }
 
-        for (String roomKey : allRoomKeys) {
-            RoomInfo roomInfo = redisRepository.findById(Long.valueOf(roomKey.split(":")[1]));
-            boolean duplication = roomInfo.getMemberMapping().containsValue(memberId);
+    /**
+     * 여러 유저의 참여 중인 방 조회
+     *
+     * @return memberId -> roomId (참여 중인 유저만)
+     */
+    public Map<Long, Long> findRoomIdsByMemberIds(List<Long> memberIds) {
+        return redisRepository.findRoomIdsByMemberIds(memberIds);
+    }
 
-            if (duplication) {
-                return true;
-            }  // 유저가 이미 방에 참여 중인 경우
+    /**
+     * ID 가 기준보다 큰 유저의 참여 중인 방 조회 (게스트 예약 범위 정리용)
+     *
+     * @return memberId -> roomId (참여 중인 유저만)
+     */
+    public Map<Long, Long> findRoomIdsByMemberIdAbove(long memberIdFloor) {
+        return redisRepository.findRoomIdsByMemberIdAbove(memberIdFloor);
+    }
+
+    /**
+     * 방 스크립트 결과 코드를 예외로 변환 (0 이상은 정상)
+     */
+    private void validateResult(long result) {
+        if (result >= 0) {
+            return;
         }
-        return false;  // 유저가 어떤 방에도 참여하지 않은 경우
+        throw new BusinessException(switch ((int) result) {
+            case RoomRedisRepository.RESULT_ROOM_NOT_FOUND -> ROOM_NOT_FOUND;
+            case RoomRedisRepository.RESULT_ALREADY_STARTED -> GAME_ALREADY_STARTED;
+            case RoomRedisRepository.RESULT_ALREADY_JOINED -> ALREADY_HAS_ROOM;
+            case RoomRedisRepository.RESULT_INVALID_PASSWORD -> INVALID_PASSWORD;
+            case RoomRedisRepository.RESULT_ROOM_FULL -> ROOM_FULL;
+            case RoomRedisRepository.RESULT_NOT_PARTICIPANT -> PLAYER_NOT_FOUND;
+            case RoomRedisRepository.RESULT_HOST_CANNOT_READY -> HOST_CANNOT_READY;
+            case RoomRedisRepository.RESULT_NOT_HOST -> UNAUTHORIZED_ACCESS;
+            case RoomRedisRepository.RESULT_PLAYER_COUNT_INVALID -> PLAYER_COUNT_INVALID;
+            case RoomRedisRepository.RESULT_NOT_ALL_READY -> NOT_ALL_READY;
+            default -> ROOM_NOT_FOUND;
+        });
     }
 
     /**
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -21,4 +22,36 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 게임 시작 파이프라인용 (채널 구독, OpenVidu 세션/토큰 HTTP 호출, 방 상태 UPDATE 등 짧은 작업)
+     * gameTaskExecutor 는 게임 스케줄러가 게임마다 스레드를 점유하므로 분리
+     */
+    @Bean(name = "gameStartExecutor")
+    public Executor gameStartExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(500);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 가득 차면 호출 스레드에서 실행
+        executor.setThreadNamePrefix("GameStart-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 게임 종료 채팅 이관용 (MySQL 배치 INSERT)
+     * 게임 스케줄러가 스레드를 점유하는 gameTaskExecutor 뒤에서 무한정 기다리지 않도록 분리
+     */
+    @Bean(name = "chatArchiveExecutor")
+    public Executor chatArchiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 가득 차면 호출 스레드에서 실행
+        executor.setThreadNamePrefix("ChatArchive-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,6 +1,8 @@
 package com.mafia.global.common.config;
 
+import com.mafia.global.common.handler.StompErrorHandler;
 import com.mafia.global.common.handler.StompHandler;
+import com.mafia.global.common.handler.StompHandshakeHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -8,7 +10,6 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
-import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -16,6 +17,8 @@ import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompHandshakeHandler stompHandshakeHandler;
+    private final StompErrorHandler stompErrorHandler;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,12 +28,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         registry.addEndpoint("/ws-mafia") // 클라이언트가 연결할 WebSocket 엔드포인트
             .setAllowedOriginPatterns("*")
-            .setHandshakeHandler(new DefaultHandshakeHandler()); // 🔥 WebSocket 핸드셰이크 지원 추가
+            .setHandshakeHandler(stompHandshakeHandler); // 🔥 핸드셰이크 때 ACCESS 쿠키로 한 번만 인증
+        registry.setErrorHandler(stompErrorHandler);  // ERROR 프레임에 응답 코드 (토큰 만료 시 클라이언트 재연결)
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");  // 🔥 클라이언트가 구독할 경로
+        registry.enableSimpleBroker("/topic", "/queue");  // 🔥 클라이언트가 구독할 경로 (/queue 는 개인 메시지용)
         registry.setApplicationDestinationPrefixes("/app");      // 🔥 클라이언트가 메시지를 보낼 경로
     }
 
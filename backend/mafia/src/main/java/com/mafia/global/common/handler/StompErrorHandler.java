@@ -0,0 +1,32 @@
+package com.mafia.global.common.handler;
+
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+/**
+ * 인바운드 프레임 처리 중 BusinessException 이 나면 ERROR 프레임 message 헤더에 응답 코드를 담아 보냄
+ * <p>
+ * 클라이언트는 코드로 원인을 구분합니다 (예: 6004 ACCESS_TOKEN_EXPIRED 이면 토큰 재발급 후 다시 연결).
+ */
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    @Override
+    public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
+        if (!(NestedExceptionUtils.getMostSpecificCause(ex) instanceof BusinessException e)) {
+            return super.handleClientMessageProcessingError(clientMessage, ex);
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(String.valueOf(e.getBaseResponseStatus().getCode()));
+        accessor.setLeaveMutable(true);
+        return handleInternal(accessor, e.getBaseResponseStatus().getMessage().getBytes(StandardCharsets.UTF_8), ex,
+            MessageHeaderAccessor.getAccessor(clientMessage, StompHeaderAccessor.class));
+    }
+}
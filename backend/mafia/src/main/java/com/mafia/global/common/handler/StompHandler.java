@@ -1,41 +1,53 @@
 package com.mafia.global.common.handler;
 
 
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ACCESS_TOKEN_EXPIRED;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.UNAUTHORIZED;
+
 import com.mafia.domain.chat.model.StompPrincipal;
-import com.mafia.domain.login.model.dto.AuthenticatedUser;
-import java.security.Principal;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.service.StompSessionDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+/**
+ * STOMP 인바운드 프레임 검사
+ * <p>
+ * 인증은 핸드셰이크 때 한 번 끝나 있으므로({@link StompHandshakeHandler}) CONNECT 에서는 세션 사용자가 있는지만 확인하고,
+ * 이후 프레임은 토큰 만료 시각 비교만 합니다. 연결 중 토큰을 재발급받았다면 연장된 만료 시각을 따르고({@link StompSessionDeadline}),
+ * 그래도 지났으면 ERROR 프레임(ACCESS_TOKEN_EXPIRED)으로 끊기며 클라이언트는 토큰을 재발급받아 다시 연결합니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@Slf4j
-public class StompHandler implements ChannelInterceptor{
+public class StompHandler implements ChannelInterceptor {
+
+    private final StompSessionDeadline sessionDeadline;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor =
             MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        if (accessor != null) {
-            Principal principal = accessor.getUser();
-            // 만약 principal이 Authentication 토큰인 경우 내부의 principal을 확인합니다.
-            if (principal instanceof UsernamePasswordAuthenticationToken token) {
-                Object userObj = token.getPrincipal();
-                if (userObj instanceof AuthenticatedUser user) {
-                    //log.info("user Data" + user.getMemberDto().toString());
-                    log.info("AuthenticatedUser memberId: {}", user.getMemberId());
-                    // 여기서 AuthenticatedUser에서 필요한 값을 꺼내 StompPrincipal 생성
-                    //AuthenticatedUser principal = (AuthenticatedUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-                    StompPrincipal stompPrincipal =
-                        new StompPrincipal(user.getMemberId());
-                    accessor.setUser(stompPrincipal);
-                }
+        if (accessor == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            if (!(accessor.getUser() instanceof StompPrincipal principal) || principal.isExpired()) {
+                throw new BusinessException(UNAUTHORIZED);
+            }
+            log.debug("STOMP 연결 - memberId: {}", principal.getMemberId());
+        } else if (command == StompCommand.SEND || command == StompCommand.SUBSCRIBE) {
+            if (accessor.getUser() instanceof StompPrincipal principal && !sessionDeadline.isAlive(principal)) {
+                throw new BusinessException(ACCESS_TOKEN_EXPIRED);
             }
         }
         return message;
@@ -0,0 +1,42 @@
+package com.mafia.global.common.handler;
+
+import com.mafia.domain.chat.model.StompPrincipal;
+import com.mafia.global.common.utils.JWTClaims;
+import com.mafia.global.common.utils.JWTUtil;
+import jakarta.servlet.http.Cookie;
+import java.security.Principal;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * WebSocket 핸드셰이크 때 ACCESS 쿠키의 JWT 를 한 번 검증해 세션 사용자(StompPrincipal)를 정함
+ * <p>
+ * 여기서 정한 사용자가 세션의 모든 STOMP 프레임에 그대로 붙으므로 프레임마다 인증 객체를 만들지 않습니다. 토큰이 없거나 유효하지
+ * 않으면 사용자 없이 연결되고 CONNECT 프레임에서 거절됩니다({@link StompHandler}).
+ */
+@Component
+@RequiredArgsConstructor
+public class StompHandshakeHandler extends DefaultHandshakeHandler {
+
+    private final JWTUtil jwtUtil;
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+        Map<String, Object> attributes) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return null;
+        }
+        Cookie access = WebUtils.getCookie(servletRequest.getServletRequest(), "ACCESS");
+        JWTClaims claims = access == null ? null : jwtUtil.parse(access.getValue());
+        if (claims == null) {
+            return null;
+        }
+        return new StompPrincipal(claims.getMemberId(), claims.getExpiresAt());
+    }
+}
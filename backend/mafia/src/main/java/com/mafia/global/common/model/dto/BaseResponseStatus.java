@@ -36,6 +36,10 @@ public enum BaseResponseStatus {
     HOST_CANNOT_READY(false, HttpStatus.BAD_REQUEST, 1023, "방장은 준비 상태를 변경할 수 없습니다."),
     GAME_ALREADY_STARTED(false, HttpStatus.BAD_REQUEST, 1024, "현재 방은 게임 진행 중입니다."),
 
+    // 빠른 참가 관련 (1030 ~ 1039)
+    ALREADY_IN_MATCHMAKING(false, HttpStatus.BAD_REQUEST, 1030, "이미 빠른 참가 대기 중입니다."),
+    NOT_IN_MATCHMAKING(false, HttpStatus.BAD_REQUEST, 1031, "빠른 참가 대기 중이 아닙니다."),
+
     // Member Error Codes (2000~)
     MEMBER_NOT_FOUND(false, HttpStatus.NOT_FOUND, 2001, "존재하지 않는 회원입니다."),
     NOT_GUEST_ACCOUNT(false, HttpStatus.FORBIDDEN, 2002, "게스트 계정만 삭제할 수 있습니다."),
@@ -76,11 +80,13 @@ public enum BaseResponseStatus {
     NOT_FOUND_CHAT(false, HttpStatus.NOT_FOUND, 5001, "채팅방을 찾을 수 없습니다."),
     NOT_PERMISSION_CHAT(false, HttpStatus.NOT_FOUND, 5002, "해당 채팅방에 접근이 불가합니다."),
     NOT_FOUND_SESSION(false, HttpStatus.NOT_FOUND, 5003, "해당 OpenVidu 세션이 존재하지 않습니다."),
+    VOICE_SERVER_UNAVAILABLE(false, HttpStatus.SERVICE_UNAVAILABLE, 5004, "음성 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // JWT Error Codes (6000~)
     REFRESH_TOKEN_NOT_FOUND(false, HttpStatus.BAD_REQUEST, 6001, "리프레시 토큰을 찾을 수 없습니다."),
     REFRESH_TOKEN_EXPIRED(false, HttpStatus.BAD_REQUEST, 6002, "만료된 리프레시 토큰입니다."),
-    INVALID_REFRESH_TOKEN(false, HttpStatus.BAD_REQUEST, 6003, "유효하지 않은 리프레시 토큰입니다.");
+    INVALID_REFRESH_TOKEN(false, HttpStatus.BAD_REQUEST, 6003, "유효하지 않은 리프레시 토큰입니다."),
+    ACCESS_TOKEN_EXPIRED(false, HttpStatus.UNAUTHORIZED, 6004, "만료된 액세스 토큰입니다.");
 
     private final boolean isSuccess;
     @JsonIgnore
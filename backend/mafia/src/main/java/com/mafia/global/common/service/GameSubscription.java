@@ -3,8 +3,8 @@ package com.mafia.global.common.service;
 import com.mafia.domain.chat.model.enumerate.ChatType;
 import com.mafia.domain.chat.service.ChatSubscriber;
 import com.mafia.domain.game.event.GameSubscriber;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -19,7 +19,7 @@ public class GameSubscription implements Subscription{
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final ChatSubscriber chatSubscriber;
     private final GameSubscriber gameSubscriber;
-    private final Map<String, ChannelTopic> activeTopics = new HashMap<>();
+    private final Map<String, ChannelTopic> activeTopics = new ConcurrentHashMap<>();  // 게임 시작 파이프라인 스레드에서도 구독
 
     /**
      * 🔥 새로운 Redis 구독 채널 생성
@@ -45,15 +45,6 @@ public class GameSubscription implements Subscription{
             activeTopics.put(topicName, topic);
             log.info("✅ Redis 게임 System 채널 구독 시작: {}", topicName);
         }
-
-        topicName = "game-" + gameId + "-mafia-system";
-        topic = new ChannelTopic(topicName);
-
-        if (!activeTopics.containsKey(topicName)) {
-            redisMessageListenerContainer.addMessageListener(gameSubscriber, topic);
-            activeTopics.put(topicName, topic);
-            log.info("✅ Redis 게임 System 채널 구독 시작: {}", topicName);
-        }
     }
 
     /**
@@ -78,14 +69,6 @@ public class GameSubscription implements Subscription{
             redisMessageListenerContainer.removeMessageListener(gameSubscriber, topic);
             log.info("❌ Redis 게임 System 채널 구독 제거: {}", topicName);
         }
-
-        topicName = "game-" + gameId + "-mafia-system";
-        topic = activeTopics.remove(topicName);
-
-        if (topic != null) {
-            redisMessageListenerContainer.removeMessageListener(gameSubscriber, topic);
-            log.info("❌ Redis 게임 System 채널 구독 제거: {}", topicName);
-        }
     }
 }
 
@@ -1,11 +1,14 @@
 package com.mafia.global.common.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -37,6 +40,23 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
+    /**
+     * 여러 키를 파이프라인으로 한 번에 삭제 (UNLINK - 값 해제는 Redis 백그라운드에서)
+     */
+    @SuppressWarnings("unchecked")
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().unlink(keySerializer.serialize(key));
+            }
+            return null;
+        });
+    }
+
     public void saveWithExpiry(String key, Object value, long timeout, TimeUnit timeUnit) {
         log.info("Saving key: {} with expiry: {} {}", key, timeout, timeUnit);
         redisTemplate.opsForValue().set(key, value, timeout, timeUnit);
@@ -0,0 +1,71 @@
+package com.mafia.global.common.service;
+
+import com.mafia.domain.chat.model.StompPrincipal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * STOMP 세션 만료 시각 연장
+ * <p>
+ * 세션 사용자는 핸드셰이크 때 토큰 만료 시각을 담아 한 번 만들어지므로, 연결 중에 토큰을 재발급받으면 여기서 만료 시각을 늦춥니다.
+ * 재발급 요청은 웹소켓이 붙은 노드와 다른 노드로 갈 수 있어 새 만료 시각을 Redis(stomp:deadline:{memberId})에 남기고, 각 노드는
+ * 세션의 원래 만료 시각이 지난 뒤 처음 한 번만 읽어 로컬에 기억합니다. 만료 전 프레임은 지금처럼 시각 비교만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSessionDeadline {
+
+    private static final String KEY_PREFIX = "stomp:deadline:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<Long, Long> extended = new ConcurrentHashMap<>();  // memberId -> 연장된 만료 시각 (이 노드에서 읽은 값)
+
+    /**
+     * 토큰 재발급 시 호출 - 연결 중인 세션이 새 토큰 만료 시각까지 유지됨
+     */
+    public void extend(Long memberId, long expiresAt) {
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + memberId, String.valueOf(expiresAt), Duration.ofMillis(ttl));
+    }
+
+    /**
+     * 세션이 아직 유효한지 - 핸드셰이크 때 토큰이 만료됐으면 재발급으로 연장된 만료 시각을 확인
+     */
+    public boolean isAlive(StompPrincipal principal) {
+        if (!principal.isExpired()) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        Long local = extended.get(principal.getMemberId());
+        if (local != null && now < local) {
+            return true;
+        }
+
+        String saved = stringRedisTemplate.opsForValue().get(KEY_PREFIX + principal.getMemberId());
+        if (saved == null || now >= Long.parseLong(saved)) {
+            extended.remove(principal.getMemberId());
+            return false;
+        }
+        extended.put(principal.getMemberId(), Long.parseLong(saved));
+        log.debug("STOMP 세션 연장 - memberId: {}, until: {}", principal.getMemberId(), saved);
+        return true;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() instanceof StompPrincipal principal) {
+            extended.remove(principal.getMemberId());
+        }
+    }
+}
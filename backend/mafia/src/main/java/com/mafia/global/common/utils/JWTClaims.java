@@ -0,0 +1,20 @@
+package com.mafia.global.common.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 의 클레임 (불변) - 요청마다 다시 파싱하지 않고 이 값만 사용
+ */
+@Getter
+@AllArgsConstructor
+public final class JWTClaims {
+
+    private final String providerId;
+    private final Long memberId;
+    private final long expiresAt;  // 만료 시각 (epoch ms)
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+}
@@ -1,45 +1,90 @@
 package com.mafia.global.common.utils;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * JWT 발급/검증
+ * <p>
+ * 검증은 미리 만들어 둔 파서로 한 번만 하고 결과(JWTClaims)를 토큰 해시(SHA-256) 기준으로 만료 시각까지 캐시합니다. 같은 토큰으로 들어오는
+ * 이후 요청은 서명 검증 없이 해시 조회 한 번으로 끝납니다. 캐시는 최대 개수를 넘으면 만료된 항목부터 비웁니다.
+ */
+@Slf4j
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Map<String, JWTClaims> verifiedCache = new ConcurrentHashMap<>();
+    private final int cacheSize;
     @Value("${spring.jwt.access-token-validity}")
     private long accessTokenValidity;
     @Value("${spring.jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+        @Value("${spring.jwt.verified-cache-size:10000}") int cacheSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser().verifyWith(secretKey).build();  // 스레드 안전 - 재사용
+        this.cacheSize = cacheSize;
     }
 
-    public Long getMemberId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-            .parseSignedClaims(token).getPayload()
-            .get("memberId", Long.class);
-    }
-
-    public String getProviderId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-            .parseSignedClaims(token).getPayload()
-            .get("providerId", String.class);
-    }
+    /**
+     * 토큰 검증 후 클레임 반환
+     *
+     * @return 서명이 맞고 만료되지 않은 토큰의 클레임, 아니면 null
+     */
+    public JWTClaims parse(String token) {
+        String key = hash(token);
+        JWTClaims cached = verifiedCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedCache.remove(key);
+            return null;
+        }
 
+        JWTClaims claims;
+        try {
+            Claims payload = parser.parseSignedClaims(token).getPayload();
+            Date expiration = payload.getExpiration();
+            claims = new JWTClaims(payload.get("providerId", String.class), payload.get("memberId", Long.class),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());  // 만료, 서명 불일치, 형식 오류
+            return null;
+        }
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-            .parseSignedClaims(token).getPayload()
-            .getExpiration().before(new Date());
+        if (verifiedCache.size() >= cacheSize) {
+            evict();
+        }
+        verifiedCache.put(key, claims);
+        return claims;
     }
 
     public String createAccessToken(String providerId, Long memberId) {
@@ -62,30 +107,23 @@ public class JWTUtil {
             .compact();
     }
 
-    public boolean validateToken(String token) {
-
-
-        try {
-            // 토큰 만료 및 유효성 검증
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            System.out.println("Token valid: "+ !isExpired(token));
-            return !isExpired(token);
-        } catch (Exception e) {
-            e.getStackTrace();
-            return false;
+    /**
+     * 만료된 항목 삭제 후에도 가득 차 있으면 절반을 비움
+     */
+    private void evict() {
+        verifiedCache.values().removeIf(JWTClaims::isExpired);
+        if (verifiedCache.size() < cacheSize) {
+            return;
+        }
+        Iterator<String> iterator = verifiedCache.keySet().iterator();
+        for (int i = 0; i < cacheSize / 2 && iterator.hasNext(); i++) {
+            iterator.next();
+            iterator.remove();
         }
     }
 
-
-    public Claims parseToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    private String hash(String token) {
+        byte[] digest = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
     }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.mafia.global.common.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 로더 (노드 메모리)
+ * <p>
+ * 먼저 온 요청이 실제로 조회하고, 그 조회가 끝나기 전에 들어온 같은 키의 요청은 결과를 함께 받습니다. 조회가 끝나면 항목을
+ * 지우므로 결과를 보관하지는 않습니다. 이 노드에서 쓰기가 끝날 때마다 {@link #invalidate()} 를 호출하면, 쓰기 전에 시작된
+ * 조회에는 이후 요청이 합류하지 않아 자기 쓰기 결과를 못 보는 일이 없습니다.
+ * <p>
+ * 결과 객체를 여러 요청이 공유하므로 읽기 전용 경로에서만 사용합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public V load(K key, Supplier<V> loader) {
+        long current = generation.get();
+        Call<V> created = new Call<>(current);
+        Call<V> call = calls.compute(key,
+            (k, inFlight) -> inFlight != null && inFlight.generation == current ? inFlight : created);
+        if (call != created) {
+            return call.join();
+        }
+
+        try {
+            V value = loader.get();
+            created.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, created);
+        }
+    }
+
+    /**
+     * 쓰기 완료 후 호출 - 진행 중인 조회에 더 이상 합류하지 않음
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private static final class Call<V> {
+
+        private final long generation;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private Call(long generation) {
+            this.generation = generation;
+        }
+
+        private V join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mafia.domain.chat.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTests {
+
+    private static final List<String> WORDS = List.of("시발", "씨발", "병신", "개새끼", "fuck", "shit");
+
+    @Test
+    void masksOverlappingPatterns() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("he", "she", "hers", "his"));
+
+        assertEquals("u*****", matcher.mask("ushers", '*'));
+        assertEquals("t*** is", matcher.mask("this is", '*'));
+        assertTrue(matcher.containsAny("SHE"));
+        assertFalse(matcher.containsAny("world"));
+    }
+
+    @Test
+    void returnsSameInstanceWhenClean() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(WORDS);
+        String clean = "오늘 밤에는 3번을 감염시키자";
+
+        assertSame(clean, matcher.mask(clean, '*'));
+        assertEquals("너 ** 좀비지?", matcher.mask("너 병신 좀비지?", '*'));
+        assertEquals("**** you", matcher.mask("FUCK you", '*'));
+    }
+
+    @Test
+    void keepsMatchesInsideAllowedWords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(WORDS);
+        AhoCorasickMatcher allowed = AhoCorasickMatcher.of(List.of("시발점", "shitake"));
+        String innocent = "여기가 시발점이야, Shitake 버섯";
+
+        assertSame(innocent, matcher.mask(innocent, '*', allowed));
+        assertEquals("시발점에서 ** 하지마", matcher.mask("시발점에서 시발 하지마", '*', allowed));
+        assertEquals("****", matcher.mask("shit", '*', allowed));
+    }
+}
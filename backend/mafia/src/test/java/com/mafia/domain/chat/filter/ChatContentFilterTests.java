@@ -0,0 +1,49 @@
+package com.mafia.domain.chat.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 기본 사전(허용 단어 포함)과 Redis 추가 단어를 합친 필터 동작 확인
+ */
+class ChatContentFilterTests {
+
+    private SetOperations<String, String> setOperations;
+    private ChatContentFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(anyString())).thenReturn(Set.of());
+        filter = new ChatContentFilter(redisTemplate, new ClassPathResource("chat/forbidden-words.txt"));
+    }
+
+    @Test
+    void leavesInnocentWordsContainingShortTokens() {
+        String innocent = "시발역에서 shitake 사 왔어";
+
+        assertSame(innocent, filter.filter(innocent));
+        assertEquals("* 같은 ****", filter.filter("좆 같은 shit"));
+    }
+
+    @Test
+    void appliesAllowedWordsFromRedis() {
+        when(setOperations.members(ChatContentFilter.EXTRA_ALLOWED_KEY)).thenReturn(Set.of("ㅂㅅㄱ"));
+        filter.reload();
+
+        assertEquals("ㅂㅅㄱ 말고 **", filter.filter("ㅂㅅㄱ 말고 ㅂㅅ"));
+    }
+}
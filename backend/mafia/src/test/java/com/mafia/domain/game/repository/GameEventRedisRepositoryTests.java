@@ -0,0 +1,117 @@
+package com.mafia.domain.game.repository;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.GameEventRange;
+import com.mafia.support.RedisTestSupport;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * 변경분 스크립트가 순번을 빈틈없이 발급해 보관, 발행하고, 보관 개수를 넘은 변경분은 gap 으로 알려 주는지 확인 (실제 Redis 필요)
+ */
+class GameEventRedisRepositoryTests extends RedisTestSupport {
+
+    private static final long GAME_ID = 3L;
+    private static final String CHANNEL = "game-3-system";
+    private static final long TTL_MS = 60_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameEventRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new GameEventRedisRepository(stringRedisTemplate);
+    }
+
+    @Test
+    void concurrentAppendsGetGapFreeSeqsPublishedInOrder() throws Exception {
+        List<Long> published = new CopyOnWriteArrayList<>();
+        int appends = 20;
+        RedisConnection subscriber = stringRedisTemplate.getRequiredConnectionFactory().getConnection();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            subscriber.subscribe((message, pattern) -> published.add(seqOf(new String(message.getBody(),
+                StandardCharsets.UTF_8))), CHANNEL.getBytes(StandardCharsets.UTF_8));
+
+            List<Future<Long>> seqs = new ArrayList<>();
+            for (int i = 0; i < appends; i++) {
+                String json = "{\"type\":\"PHASE_CHANGED\",\"data\":{\"n\":" + i + "}}";
+                seqs.add(pool.submit(() -> repository.append(GAME_ID, CHANNEL, json, 100, TTL_MS)));
+            }
+            TreeSet<Long> issued = new TreeSet<>();
+            for (Future<Long> seq : seqs) {
+                issued.add(seq.get());
+            }
+
+            assertEquals(appends, issued.size());
+            assertEquals(1L, issued.first());
+            assertEquals((long) appends, issued.last());
+            assertEquals(appends, repository.getSequence(GAME_ID));
+
+            GameEventRange range = repository.findAfter(GAME_ID, 0);
+            assertFalse(range.isGap());
+            for (int i = 0; i < appends; i++) {
+                assertEquals(i + 1, seqOf(range.getEvents().get(i)));
+            }
+
+            // 발행도 순번 순서 (스크립트 안에서 발급과 발행이 함께 일어남)
+            await().atMost(Duration.ofSeconds(5)).until(() -> published.size() == appends);
+            for (int i = 0; i < appends; i++) {
+                assertEquals((long) i + 1, published.get(i));
+            }
+        } finally {
+            pool.shutdownNow();
+            subscriber.close();
+        }
+    }
+
+    @Test
+    void keepsOnlyLatestEventsAndReportsGapOutsideWindow() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            repository.append(GAME_ID, CHANNEL, "{\"type\":\"PHASE_CHANGED\"}", 3, TTL_MS);
+        }
+
+        assertEquals(3L, stringRedisTemplate.opsForZSet().zCard("game-events:" + GAME_ID));
+        assertTrue(stringRedisTemplate.getExpire("game-events:" + GAME_ID) > 0);
+
+        // 2 번은 이미 밀려남 -> 전체 상태 필요
+        GameEventRange tooOld = repository.findAfter(GAME_ID, 1);
+        assertTrue(tooOld.isGap());
+        assertEquals(5, tooOld.getSeq());
+        assertTrue(tooOld.getEvents().isEmpty());
+
+        GameEventRange window = repository.findAfter(GAME_ID, 2);
+        assertFalse(window.isGap());
+        assertEquals(List.of(3L, 4L, 5L), window.getEvents().stream().map(this::seqOf).toList());
+
+        GameEventRange latest = repository.findAfter(GAME_ID, 5);
+        assertFalse(latest.isGap());
+        assertTrue(latest.getEvents().isEmpty());
+
+        // 다른 판의 순번 등 현재보다 앞선 순번은 상태를 다시 받아야 함
+        assertTrue(repository.findAfter(GAME_ID, 6).isGap());
+    }
+
+    private long seqOf(String event) {
+        try {
+            return objectMapper.readTree(event).get("seq").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
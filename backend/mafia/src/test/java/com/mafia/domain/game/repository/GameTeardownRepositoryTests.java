@@ -0,0 +1,60 @@
+package com.mafia.domain.game.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafia.support.RedisTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 정리 작업 등록/임대/재시도 스크립트 확인 (실제 Redis 필요)
+ */
+class GameTeardownRepositoryTests extends RedisTestSupport {
+
+    private GameTeardownRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new GameTeardownRepository(stringRedisTemplate);
+    }
+
+    @Test
+    void registersEachGameOnce() {
+        assertTrue(repository.request(1L, 100, "v1"));
+        assertFalse(repository.request(1L, 200, "v2"));
+
+        assertEquals("100", repository.findJob(1L).get(GameTeardownRepository.FIELD_REQUESTED_AT));
+        assertEquals("v1", repository.findJob(1L).get(GameTeardownRepository.FIELD_VERSION));
+    }
+
+    @Test
+    void leasesJobUntilExpiryThenLetsAnotherNodeResume() {
+        repository.request(1L, 100, "v1");
+        repository.request(2L, 300, "v1");
+
+        assertEquals(List.of(1L), repository.claim(200, 1_000, 10));
+        assertEquals(List.of(2L), repository.claim(500, 1_500, 10));  // 1 은 임대 중
+        assertEquals(List.of(), repository.claim(900, 1_900, 10));
+
+        repository.markStageDone(1L, "RECORD_STATS");
+        assertEquals(List.of(1L), repository.claim(1_000, 2_000, 10));  // 임대 만료 - 이어서 처리
+        assertEquals("1", repository.findJob(1L).get("RECORD_STATS"));
+    }
+
+    @Test
+    void rescheduleCountsAttemptsAndCompleteRemovesJob() {
+        repository.request(1L, 100, "v1");
+        repository.claim(100, 1_000, 10);
+
+        assertEquals(1, repository.reschedule(1L, 150));
+        assertEquals(List.of(1L), repository.claim(150, 1_150, 10));
+        assertEquals(2, repository.reschedule(1L, 200));
+
+        repository.complete(1L);
+        assertFalse(repository.isRequested(1L));
+        assertEquals(List.of(), repository.claim(10_000, 11_000, 10));
+    }
+}
@@ -0,0 +1,89 @@
+package com.mafia.domain.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.event.GamePublisher;
+import com.mafia.domain.game.model.dto.GameEventRange;
+import com.mafia.domain.game.model.dto.GameEventsResponse;
+import com.mafia.domain.game.model.dto.GameInfoDto;
+import com.mafia.domain.game.model.dto.GameInfoView;
+import com.mafia.domain.game.repository.GameRepository;
+import com.mafia.domain.game.repository.GameSeqRepository;
+import com.mafia.domain.room.service.RoomRedisService;
+import com.mafia.global.common.service.GameSubscription;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 재연결 시 놓친 변경분 조회 - 보관 범위 안이면 변경분만, 벗어났으면 전체 상태를 돌려주는지 확인
+ */
+class GameServiceEventsTests {
+
+    private static final long GAME_ID = 3L;
+    private static final long MEMBER_ID = 100L;
+
+    private GameEventService gameEventService;
+    private GameInfoCache gameInfoCache;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameEventService = mock(GameEventService.class);
+        gameInfoCache = mock(GameInfoCache.class);
+        gameService = new GameService(mock(RoomRedisService.class), mock(GameRepository.class),
+            mock(GameSeqRepository.class), mock(VoiceService.class), mock(GamePublisher.class), gameEventService,
+            gameInfoCache, mock(GameSubscription.class), new ObjectMapper(), mock(ApplicationEventPublisher.class),
+            mock(GameTeardownService.class), Runnable::run);
+    }
+
+    @Test
+    void returnsMissedEventsInSeqOrder() {
+        when(gameEventService.findAfter(GAME_ID, 2)).thenReturn(new GameEventRange(4, false,
+            List.of("{\"seq\":3,\"type\":\"PHASE_CHANGED\"}", "{\"seq\":4,\"type\":\"PLAYER_DIED\"}")));
+
+        GameEventsResponse response = gameService.getEventsAfter(MEMBER_ID, GAME_ID, 2);
+
+        assertEquals(4, response.getSeq());
+        assertEquals(List.of(3L, 4L), response.getEvents().stream().map(event -> event.get("seq").asLong()).toList());
+        assertNull(response.getSnapshot());
+    }
+
+    @Test
+    void returnsNothingWhenClientIsUpToDate() {
+        when(gameEventService.findAfter(GAME_ID, 4)).thenReturn(new GameEventRange(4, false, List.of()));
+
+        GameEventsResponse response = gameService.getEventsAfter(MEMBER_ID, GAME_ID, 4);
+
+        assertEquals(4, response.getSeq());
+        assertTrue(response.getEvents().isEmpty());
+        assertNull(response.getSnapshot());
+        verify(gameInfoCache, never()).get(anyLong(), anyLong());
+    }
+
+    @Test
+    void returnsSnapshotAtLatestSeqWhenEventsWereDropped() {
+        GameInfoDto snapshot = mock(GameInfoDto.class, RETURNS_DEEP_STUBS);
+        GameInfoView view = mock(GameInfoView.class);
+        when(view.toDto(MEMBER_ID)).thenReturn(snapshot);
+        when(gameInfoCache.get(GAME_ID, 250)).thenReturn(view);
+        when(gameEventService.findAfter(GAME_ID, 10)).thenReturn(new GameEventRange(250, true, List.of()));
+
+        GameEventsResponse response = gameService.getEventsAfter(MEMBER_ID, GAME_ID, 10);
+
+        assertEquals(250, response.getSeq());
+        assertTrue(response.getEvents().isEmpty());
+        assertSame(snapshot, response.getSnapshot());
+    }
+}
@@ -0,0 +1,276 @@
+package com.mafia.domain.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
+import com.mafia.domain.game.repository.GameRepository;
+import com.mafia.domain.game.repository.GameSeqRepository;
+import com.mafia.domain.game.repository.GameTeardownRepository;
+import com.mafia.domain.game.service.GameTeardownService.Stage;
+import com.mafia.global.common.service.GameSubscription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 정리 단계 순서, 실패한 단계부터 재시도, 임대 만료 후 이어서 처리하는 동작 확인
+ * <p>
+ * 작업 저장소는 Redis 스크립트와 같은 규칙(score 가 지난 작업만 임대, 임대 시 score 를 만료 시각으로 미룸)의 메모리 구현을 씁니다.
+ */
+class GameTeardownServiceTests {
+
+    private static final long GAME_ID = 7L;
+    private static final long LEASE_MS = 30_000;
+
+    private InMemoryTeardownRepository teardownRepository;
+    private GameRepository gameRepository;
+    private GameSeqRepository gameSeqRepository;
+    private GameResultService gameResultService;
+    private VoiceService voiceService;
+    private GameEventService gameEventService;
+    private GameSubscription subscription;
+    private ApplicationEventPublisher eventPublisher;
+    private Game game;
+    private GameTeardownService service;
+
+    @BeforeEach
+    void setUp() {
+        teardownRepository = new InMemoryTeardownRepository();
+        gameRepository = mock(GameRepository.class);
+        gameSeqRepository = mock(GameSeqRepository.class);
+        gameResultService = mock(GameResultService.class);
+        voiceService = mock(VoiceService.class);
+        gameEventService = mock(GameEventService.class);
+        subscription = mock(GameSubscription.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        game = mock(Game.class);
+        when(gameRepository.existsById(GAME_ID)).thenReturn(true);
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game));
+
+        // 재시도 간격 0 - 실패 직후 다음 process() 에서 바로 다시 실행
+        service = new GameTeardownService(teardownRepository, gameRepository, gameSeqRepository, gameResultService,
+            voiceService, gameEventService, subscription, eventPublisher, new SimpleMeterRegistry(),
+            20, LEASE_MS, 0);
+    }
+
+    @Test
+    void runsStagesInDeclaredOrderAndCompletesJob() throws Exception {
+        service.requestTeardown(GAME_ID, "v1");
+        service.requestTeardown(GAME_ID, "v1");  // 중복 요청은 무시
+        verify(gameSeqRepository, times(1)).removeActiveGame(GAME_ID);
+
+        service.process();
+
+        InOrder order = inOrder(gameResultService, gameEventService, eventPublisher, subscription, voiceService,
+            gameRepository, gameSeqRepository);
+        order.verify(gameResultService).recordGame(eq(game), anyLong(), eq("v1"));
+        order.verify(gameEventService).publish(eq(GAME_ID), eq(GameEventType.GAME_ENDED), anyMap(), anyMap());
+        order.verify(eventPublisher).publishEvent(any(GameEndEvent.class));
+        order.verify(subscription).unsubscribe(GAME_ID);
+        order.verify(voiceService).closeSession(GAME_ID);
+        order.verify(gameRepository).delete(GAME_ID);
+        order.verify(gameSeqRepository).delete(GAME_ID);
+        assertFalse(teardownRepository.isRequested(GAME_ID));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Stage.class)
+    void retriesFromFailedStageWithoutRepeatingCompletedOnes(Stage failing) throws Exception {
+        failOnce(failing);
+        service.requestTeardown(GAME_ID, "v1");
+
+        service.process();
+
+        Map<Object, Object> job = teardownRepository.findJob(GAME_ID);
+        assertEquals("1", job.get(GameTeardownRepository.FIELD_ATTEMPTS));
+        for (Stage stage : Stage.values()) {
+            assertEquals(stage.ordinal() < failing.ordinal(), job.containsKey(stage.name()), stage.name());
+        }
+
+        service.process();
+
+        for (Stage stage : Stage.values()) {
+            verifyStageRuns(stage, stage == failing ? 2 : 1);
+        }
+        assertFalse(teardownRepository.isRequested(GAME_ID));
+    }
+
+    @Test
+    void notifyEndRetryRepublishesSameEndRequest() throws Exception {
+        failOnce(Stage.NOTIFY_END);
+        service.requestTeardown(GAME_ID, "v1");
+
+        service.process();
+        service.process();
+
+        // 다시 보내는 이벤트도 같은 종료 요청 시각을 가지므로 받는 쪽(채팅 이관 등)이 중복을 가려낼 수 있음
+        ArgumentCaptor<GameEndEvent> events = ArgumentCaptor.forClass(GameEndEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        long requestedAt = Long.parseLong(teardownRepository.requestedAt);
+        for (GameEndEvent event : events.getAllValues()) {
+            assertEquals(GAME_ID, event.getGameId());
+            assertEquals(requestedAt, event.getRequestedAt());
+        }
+    }
+
+    @Test
+    void resumesPartlyFinishedJobOnlyAfterLeaseExpires() throws Exception {
+        service.requestTeardown(GAME_ID, "v1");
+        // 다른 노드가 임대해 앞 두 단계를 끝낸 뒤 죽은 상황
+        long now = System.currentTimeMillis();
+        assertEquals(List.of(GAME_ID), teardownRepository.claim(now, now + LEASE_MS, 20));
+        teardownRepository.markStageDone(GAME_ID, Stage.RECORD_STATS.name());
+        teardownRepository.markStageDone(GAME_ID, Stage.NOTIFY_END.name());
+
+        service.process();  // 임대 중에는 가져가지 않음
+        verifyNoInteractions(gameResultService, gameEventService, subscription, voiceService);
+        assertTrue(teardownRepository.isRequested(GAME_ID));
+
+        teardownRepository.expireLease(GAME_ID);
+        service.process();
+
+        verify(gameResultService, never()).recordGame(any(), anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any(GameEndEvent.class));
+        verify(subscription).unsubscribe(GAME_ID);
+        verify(voiceService).closeSession(GAME_ID);
+        verify(gameSeqRepository).delete(GAME_ID);
+        assertFalse(teardownRepository.isRequested(GAME_ID));
+    }
+
+    @Test
+    void skipsStatsWhenGameAlreadyRemoved() throws Exception {
+        service.requestTeardown(GAME_ID, "v1");
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.empty());
+
+        service.process();
+
+        verify(gameResultService, never()).recordGame(any(), anyLong(), any());
+        verify(gameSeqRepository).delete(GAME_ID);
+        assertFalse(teardownRepository.isRequested(GAME_ID));
+    }
+
+    private void failOnce(Stage stage) throws Exception {
+        IllegalStateException failure = new IllegalStateException(stage + " 실패");
+        switch (stage) {
+            case RECORD_STATS -> doThrow(failure).doNothing()
+                .when(gameResultService).recordGame(any(), anyLong(), any());
+            case NOTIFY_END -> doThrow(failure).doNothing()
+                .when(eventPublisher).publishEvent(any(GameEndEvent.class));
+            case UNSUBSCRIBE -> doThrow(failure).doNothing().when(subscription).unsubscribe(GAME_ID);
+            case CLOSE_VOICE -> doThrow(failure).doNothing().when(voiceService).closeSession(GAME_ID);
+            case DELETE_STATE -> doThrow(failure).doNothing().when(gameSeqRepository).delete(GAME_ID);
+        }
+    }
+
+    private void verifyStageRuns(Stage stage, int times) throws Exception {
+        switch (stage) {
+            case RECORD_STATS -> verify(gameResultService, times(times)).recordGame(any(), anyLong(), any());
+            case NOTIFY_END -> verify(eventPublisher, times(times)).publishEvent(any(GameEndEvent.class));
+            case UNSUBSCRIBE -> verify(subscription, times(times)).unsubscribe(GAME_ID);
+            case CLOSE_VOICE -> verify(voiceService, times(times)).closeSession(GAME_ID);
+            case DELETE_STATE -> verify(gameSeqRepository, times(times)).delete(GAME_ID);
+        }
+    }
+
+    /**
+     * 작업 해시와 대기열 ZSET 을 메모리로 흉내 낸 저장소
+     */
+    private static class InMemoryTeardownRepository extends GameTeardownRepository {
+
+        private final Map<Long, Map<Object, Object>> jobs = new HashMap<>();
+        private final Map<Long, Long> queue = new HashMap<>();
+        private String requestedAt;
+
+        InMemoryTeardownRepository() {
+            super(null);
+        }
+
+        @Override
+        public boolean request(long gameId, long requestedAt, String version) {
+            if (jobs.containsKey(gameId)) {
+                return false;
+            }
+            Map<Object, Object> job = new HashMap<>();
+            job.put(FIELD_REQUESTED_AT, String.valueOf(requestedAt));
+            job.put(FIELD_VERSION, version == null ? "" : version);
+            job.put(FIELD_ATTEMPTS, "0");
+            jobs.put(gameId, job);
+            queue.put(gameId, requestedAt);
+            this.requestedAt = String.valueOf(requestedAt);
+            return true;
+        }
+
+        @Override
+        public boolean isRequested(long gameId) {
+            return jobs.containsKey(gameId);
+        }
+
+        @Override
+        public List<Long> claim(long now, long leaseUntil, int limit) {
+            List<Long> due = new ArrayList<>();
+            queue.entrySet().stream()
+                .filter(entry -> entry.getValue() <= now)
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .limit(limit)
+                .forEach(entry -> due.add(entry.getKey()));
+            due.forEach(gameId -> queue.put(gameId, leaseUntil));
+            return due;
+        }
+
+        @Override
+        public Map<Object, Object> findJob(long gameId) {
+            return new HashMap<>(jobs.getOrDefault(gameId, Map.of()));
+        }
+
+        @Override
+        public void markStageDone(long gameId, String stage) {
+            jobs.get(gameId).put(stage, "1");
+        }
+
+        @Override
+        public long reschedule(long gameId, long retryAt) {
+            Map<Object, Object> job = jobs.get(gameId);
+            long attempts = Long.parseLong((String) job.get(FIELD_ATTEMPTS)) + 1;
+            job.put(FIELD_ATTEMPTS, String.valueOf(attempts));
+            queue.put(gameId, retryAt);
+            return attempts;
+        }
+
+        @Override
+        public void complete(long gameId) {
+            queue.remove(gameId);
+            jobs.remove(gameId);
+        }
+
+        void expireLease(long gameId) {
+            queue.put(gameId, 0L);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.mafia.domain.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.model.dto.BaseResponseStatus;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로컬 HTTP 스텁으로 OpenVidu REST API 를 흉내 내어 요청 형식, 타임아웃, 서킷 브레이커 동작 확인
+ */
+class OpenViduClientTests {
+
+    private static final String SECRET = "MY_SECRET";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile long delayMs = 0;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/openvidu/api/sessions", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void createsSessionAndTokenWithBasicAuth() {
+        OpenViduClient client = client(2000, 5);
+
+        assertEquals("ses_stub", client.createSession());
+        assertEquals("wss://stub?sessionId=ses_stub&token=tok_1", client.createToken("ses_stub", "Player 1"));
+
+        String expected = "Basic " + Base64.getEncoder()
+            .encodeToString(("OPENVIDUAPP:" + SECRET).getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected, lastAuthorization.get());
+    }
+
+    @Test
+    void missingSessionIsReportedWithoutOpeningCircuit() {
+        OpenViduClient client = client(2000, 1);
+        status = 404;
+
+        BusinessException e = assertThrows(BusinessException.class,
+            () -> client.createToken("ses_gone", "Player 1"));
+        assertEquals(BaseResponseStatus.NOT_FOUND_SESSION, e.getBaseResponseStatus());
+        assertTrue(client.isAvailable());
+
+        client.closeSession("ses_gone");  // 이미 없는 세션 종료는 무시
+    }
+
+    @Test
+    void slowServerTimesOut() {
+        OpenViduClient client = client(200, 5);
+        delayMs = 2000;
+
+        long started = System.currentTimeMillis();
+        BusinessException e = assertThrows(BusinessException.class, client::createSession);
+        assertEquals(BaseResponseStatus.VOICE_SERVER_UNAVAILABLE, e.getBaseResponseStatus());
+        assertTrue(System.currentTimeMillis() - started < 1500, "요청 타임아웃 안에 실패해야 함");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        OpenViduClient client = client(2000, 3);
+        status = 503;
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(BusinessException.class, client::createSession);
+        }
+        assertFalse(client.isAvailable());
+
+        int before = requests.get();
+        assertThrows(BusinessException.class, client::createSession);
+        assertEquals(before, requests.get(), "서킷이 열린 동안에는 요청을 보내지 않음");
+    }
+
+    private OpenViduClient client(long requestTimeoutMs, int failureThreshold) {
+        return new OpenViduClient(new ObjectMapper(), "http://127.0.0.1:" + server.getAddress().getPort() + "/",
+            SECRET, 500, requestTimeoutMs, failureThreshold, 60_000);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+        exchange.getRequestBody().readAllBytes();
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String body = "";
+        if (status == 200 && "POST".equals(exchange.getRequestMethod())) {
+            body = path.endsWith("/connection")
+                ? "{\"id\":\"con_1\",\"token\":\"wss://stub?sessionId=ses_stub&token=tok_1\"}"
+                : "{\"id\":\"ses_stub\",\"object\":\"session\"}";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,204 @@
+package com.mafia.domain.room.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafia.domain.room.model.redis.Participant;
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.support.RedisTestSupport;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 방 입장/퇴장/준비/시작/저장 임대/인덱스 재구축 스크립트가 방 필드와 rooms:index, rooms:player-count,
+ * rooms:member-index 를 함께 맞게 바꾸는지 확인 (실제 Redis 필요)
+ */
+class RoomRedisRepositoryTests extends RedisTestSupport {
+
+    private static final String ROOM_INDEX_KEY = "rooms:index";
+    private static final String ROOM_COUNT_KEY = "rooms:player-count";
+    private static final String MEMBER_INDEX_KEY = "rooms:member-index";
+    private static final long HOST_ID = 100L;
+
+    private RoomRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RoomRedisRepository(redisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    void rejectsJoinWhenRoomIsFull() {
+        createRoom(1L, 2, null);
+
+        assertEquals(2, repository.join(1L, 200L, "p2", null));
+        assertEquals(RoomRedisRepository.RESULT_ROOM_FULL, repository.join(1L, 300L, "p3", null));
+
+        assertEquals("2", playerCount(1L));
+        assertNull(memberIndex(300L));
+        assertEquals(Map.of(1, HOST_ID, 2, 200L), repository.findById(1L).getMemberMapping());
+    }
+
+    @Test
+    void rejectsDoubleJoinInSameOrOtherRoom() {
+        createRoom(1L, 4, null);
+        createRoom(2L, 4, null, 999L);
+
+        assertEquals(2, repository.join(1L, 200L, "p2", null));
+        assertEquals(RoomRedisRepository.RESULT_ALREADY_JOINED, repository.join(1L, 200L, "p2", null));
+        assertEquals(RoomRedisRepository.RESULT_ALREADY_JOINED, repository.join(2L, 200L, "p2", null));
+
+        assertEquals("2", playerCount(1L));
+        assertEquals("1", playerCount(2L));
+        assertEquals("1", memberIndex(200L));
+    }
+
+    @Test
+    void fillsLowestFreeSeatAndChecksPassword() {
+        createRoom(1L, 4, "secret");
+
+        assertEquals(RoomRedisRepository.RESULT_INVALID_PASSWORD, repository.join(1L, 200L, "p2", "wrong"));
+        assertEquals(2, repository.join(1L, 200L, "p2", "secret"));
+        assertEquals(3, repository.join(1L, 300L, "p3", "secret"));
+        assertEquals(2, repository.leave(1L, 200L));
+        assertEquals(2, repository.join(1L, 400L, "p4", "secret"));
+    }
+
+    @Test
+    void hostLeaveFreesSeatAndRoomDeleteReleasesEveryone() {
+        // 방장이 나가면 방을 삭제하는 흐름 (RoomWebSocketController) - 방장 위임은 없음
+        createRoom(1L, 4, null);
+        repository.join(1L, 200L, "p2", null);
+        repository.toggleReady(1L, 200L);
+
+        assertEquals(1, repository.leave(1L, HOST_ID));
+        assertNull(memberIndex(HOST_ID));
+        assertEquals("1", playerCount(1L));
+        assertEquals(RoomRedisRepository.RESULT_NOT_PARTICIPANT, repository.leave(1L, HOST_ID));
+
+        RoomInfo remaining = repository.findById(1L);
+        assertEquals(Map.of(2, 200L), remaining.getMemberMapping());
+        assertEquals(1, remaining.getReadyCnt());
+
+        repository.delete(1L, remaining.getMemberMapping().values());
+        assertNull(repository.findById(1L));
+        assertNull(memberIndex(200L));
+        assertNull(playerCount(1L));
+        assertFalse(repository.getAllRoomIds().contains(1L));
+    }
+
+    @Test
+    void leaveClearsReadyCount() {
+        createRoom(1L, 4, null);
+        repository.join(1L, 200L, "p2", null);
+
+        assertEquals(List.of(1L, 1L), repository.toggleReady(1L, 200L));
+        assertEquals(2, repository.leave(1L, 200L));
+        assertEquals(0, repository.findById(1L).getReadyCnt());
+        assertEquals(List.of((long) RoomRedisRepository.RESULT_HOST_CANNOT_READY),
+            repository.toggleReady(1L, HOST_ID));
+    }
+
+    @Test
+    void rejectsStartUntilEveryoneIsReady() {
+        createRoom(1L, 3, null);
+        repository.join(1L, 200L, "p2", null);
+
+        assertEquals(RoomRedisRepository.RESULT_PLAYER_COUNT_INVALID, repository.start(1L, HOST_ID));
+        repository.join(1L, 300L, "p3", null);
+        repository.toggleReady(1L, 200L);
+
+        assertEquals(RoomRedisRepository.RESULT_NOT_HOST, repository.start(1L, 200L));
+        assertEquals(RoomRedisRepository.RESULT_NOT_ALL_READY, repository.start(1L, HOST_ID));
+        assertFalse(repository.findById(1L).isActive());
+
+        repository.toggleReady(1L, 300L);
+        assertEquals(3, repository.start(1L, HOST_ID));
+        assertTrue(repository.findById(1L).isActive());
+        assertEquals(RoomRedisRepository.RESULT_ALREADY_STARTED, repository.start(1L, HOST_ID));
+        assertEquals(RoomRedisRepository.RESULT_ALREADY_STARTED, repository.leave(1L, 200L));
+    }
+
+    @Test
+    void reclaimsPersistLeaseAfterExpiry() {
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            repository.enqueuePersist(roomId);
+        }
+
+        assertEquals(List.of(1L, 2L), repository.claimPersist(0, 100, 2));
+        assertEquals(List.of(3L), repository.claimPersist(50, 150, 2));
+        assertEquals(List.of(), repository.claimPersist(60, 160, 2));
+
+        repository.ackPersist(List.of(1L));
+        assertEquals(List.of(2L), repository.claimPersist(120, 220, 2));  // 1 은 저장 완료, 2 는 임대 만료
+    }
+
+    @Test
+    void rebuildIndexRestoresMissingEntriesWithoutOverwriting() {
+        createRoom(1L, 4, null);
+        repository.join(1L, 200L, "p2", null);
+        createRoom(2L, 3, null, 999L);
+        repository.join(2L, 300L, "p3", null);
+        repository.join(2L, 400L, "p4", null);
+        repository.toggleReady(2L, 300L);
+        repository.toggleReady(2L, 400L);
+        repository.start(2L, 999L);
+
+        stringRedisTemplate.delete(List.of(ROOM_INDEX_KEY, ROOM_COUNT_KEY, MEMBER_INDEX_KEY));
+        stringRedisTemplate.opsForHash().put(MEMBER_INDEX_KEY, "200", "7");  // 그 사이 다른 방으로 옮긴 유저
+
+        assertEquals(2, repository.rebuildIndex());
+
+        assertEquals(Set.of(1L, 2L), repository.getAllRoomIds());
+        assertEquals("2", playerCount(1L));
+        assertEquals("3", playerCount(2L));
+        assertEquals("1", memberIndex(HOST_ID));
+        assertEquals("7", memberIndex(200L));
+        assertNull(memberIndex(300L));  // 게임 중인 방은 역인덱스 대상이 아님
+        assertEquals(Map.of(1, HOST_ID, 2, 200L), repository.findById(1L).getMemberMapping());
+    }
+
+    @Test
+    void rebuildIndexMigratesLegacyRoom() {
+        RoomInfo legacy = new RoomInfo(5L, "legacy", null, 4, null);
+        legacy.setHostId(HOST_ID);
+        legacy.getParticipant().put(HOST_ID, new Participant(HOST_ID, "host"));
+        legacy.getParticipant().put(200L, new Participant(200L, "p2"));
+        legacy.getMemberMapping().put(1, HOST_ID);
+        legacy.getMemberMapping().put(2, 200L);
+        redisTemplate.opsForValue().set("room:5", legacy);
+
+        assertEquals(1, repository.rebuildIndex());
+
+        assertEquals(Set.of(5L), repository.getAllRoomIds());
+        assertEquals("2", playerCount(5L));
+        assertEquals("5", memberIndex(200L));
+        assertEquals(3, repository.join(5L, 300L, "p3", null));  // 이제 스크립트로 변경 가능
+        assertEquals("3", playerCount(5L));
+    }
+
+    private void createRoom(Long roomId, int requiredPlayers, String password) {
+        createRoom(roomId, requiredPlayers, password, HOST_ID);
+    }
+
+    private void createRoom(Long roomId, int requiredPlayers, String password, Long hostId) {
+        RoomInfo roomInfo = new RoomInfo(roomId, "room-" + roomId, password, requiredPlayers, null);
+        roomInfo.setHostId(hostId);
+        roomInfo.getParticipant().put(hostId, new Participant(hostId, "host"));
+        roomInfo.getMemberMapping().put(1, hostId);
+        repository.save(roomId, roomInfo);
+    }
+
+    private String playerCount(Long roomId) {
+        return (String) stringRedisTemplate.opsForHash().get(ROOM_COUNT_KEY, String.valueOf(roomId));
+    }
+
+    private String memberIndex(Long memberId) {
+        return (String) stringRedisTemplate.opsForHash().get(MEMBER_INDEX_KEY, String.valueOf(memberId));
+    }
+}
@@ -0,0 +1,185 @@
+package com.mafia.domain.room.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.service.GameService;
+import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.room.model.redis.Participant;
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.response.MatchmakingResult;
+import com.mafia.domain.room.repository.MatchmakingRedisRepository;
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+/**
+ * 빠른 참가 배정 - 열린 방을 먼저 채우고 남은 인원으로 새 방을 만들며, 다른 노드나 유저가 먼저 바꾼 방/유저는 건너뛰는지 확인
+ * <p>
+ * 입장 결과는 입장 스크립트의 반환 코드를 그대로 흉내 냅니다 (스크립트 자체는 RoomRedisRepositoryTests 에서 확인).
+ */
+class MatchmakingServiceTests {
+
+    private static final String BUCKET = "3:1:0:1:30:60";
+    private static final int REQUIRED = 3;
+
+    private MatchmakingRedisRepository matchmakingRepository;
+    private RoomRedisRepository roomRepository;
+    private RoomRedisService roomRedisService;
+    private RoomPersistService roomPersistService;
+    private RoomMessageService messageService;
+    private GameService gameService;
+    private MemberService memberService;
+    private StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MatchmakingService service;
+
+    @BeforeEach
+    void setUp() {
+        matchmakingRepository = mock(MatchmakingRedisRepository.class);
+        roomRepository = mock(RoomRedisRepository.class);
+        roomRedisService = mock(RoomRedisService.class);
+        roomPersistService = mock(RoomPersistService.class);
+        messageService = mock(RoomMessageService.class);
+        gameService = mock(GameService.class);
+        memberService = mock(MemberService.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+
+        service = new MatchmakingService(matchmakingRepository, roomRepository, roomRedisService,
+            mock(RoomDbService.class), roomPersistService, messageService, gameService, memberService,
+            stringRedisTemplate, mock(RedisMessageListenerContainer.class), mock(SimpMessageSendingOperations.class),
+            objectMapper, mock(ApplicationEventPublisher.class), Runnable::run, 500);
+
+        when(matchmakingRepository.getBuckets()).thenReturn(Set.of(BUCKET));
+        when(memberService.getNicknames(any())).thenAnswer(invocation -> {
+            List<Long> memberIds = invocation.getArgument(0);
+            return memberIds.stream().collect(Collectors.toMap(id -> id, id -> "p" + id));
+        });
+    }
+
+    @Test
+    void fillsOpenRoomFirstThenCreatesRoomAndStartsFullRooms() throws Exception {
+        waiting(11L, 12L, 13L, 14L);
+        when(matchmakingRepository.getOpenRooms(BUCKET)).thenReturn(new LinkedHashSet<>(List.of(7L)));
+        // 방 7 은 2명이 있어 1자리만 남음
+        when(roomRepository.join(7L, 11L, "p11", null)).thenReturn(3L);
+        when(roomRepository.join(7L, 12L, "p12", null)).thenReturn((long) RoomRedisRepository.RESULT_ROOM_FULL);
+        when(roomPersistService.nextRoomId()).thenReturn(20L);
+        when(roomRepository.join(20L, 13L, "p13", null)).thenReturn(2L);
+        when(roomRepository.join(20L, 14L, "p14", null)).thenReturn(3L);
+        when(roomRepository.findById(7L)).thenReturn(room(7L, 1L, 2L, 11L));
+        when(roomRepository.findById(20L)).thenReturn(room(20L, 12L, 13L, 14L));
+        when(gameService.startGame(anyLong())).thenReturn(true);
+
+        service.match();
+
+        verify(matchmakingRepository, atLeastOnce()).removeOpenRoom(BUCKET, 7L);  // 정원 초과 + 시작
+        verify(matchmakingRepository).removeOpenRoom(BUCKET, 20L);
+        verify(roomRedisService).createRoomInfo(eq(20L), eq(12L), eq(REQUIRED), any(), isNull(), any());
+        verify(matchmakingRepository).addOpenRoom(BUCKET, 20L);
+        verify(roomRepository).toggleReady(7L, 11L);
+        verify(roomRepository, never()).toggleReady(20L, 12L);  // 방장은 준비 대상이 아님
+        verify(gameService).startGame(7L);
+        verify(gameService).startGame(20L);
+
+        assertEquals(List.of(
+            new MatchmakingResult(11L, 7L, 3, true),
+            new MatchmakingResult(12L, 20L, 1, true),
+            new MatchmakingResult(13L, 20L, 2, true),
+            new MatchmakingResult(14L, 20L, 3, true)), publishedResults());
+    }
+
+    @Test
+    void skipsRoomsAndUsersTakenByOthersMeanwhile() throws Exception {
+        waiting(11L, 12L, 13L);
+        when(matchmakingRepository.getOpenRooms(BUCKET)).thenReturn(new LinkedHashSet<>(List.of(7L, 8L)));
+        // 11 은 그사이 직접 다른 방에 들어감, 방 7 은 다른 노드가 먼저 채워 시작함
+        when(roomRepository.join(eq(7L), eq(11L), any(), isNull()))
+            .thenReturn((long) RoomRedisRepository.RESULT_ALREADY_JOINED);
+        when(roomRepository.join(eq(7L), eq(12L), any(), isNull()))
+            .thenReturn((long) RoomRedisRepository.RESULT_ALREADY_STARTED);
+        when(roomRepository.join(8L, 12L, "p12", null)).thenReturn(2L);
+        when(roomRepository.join(8L, 13L, "p13", null)).thenReturn(3L);
+        when(roomRepository.findById(8L)).thenReturn(room(8L, 1L, 12L, 13L));
+        when(gameService.startGame(8L)).thenReturn(true);
+
+        service.match();
+
+        verify(matchmakingRepository).removeOpenRoom(BUCKET, 7L);
+        verify(roomPersistService, never()).nextRoomId();
+        verify(roomRepository, never()).toggleReady(anyLong(), eq(11L));
+        assertEquals(List.of(
+            new MatchmakingResult(12L, 8L, 2, true),
+            new MatchmakingResult(13L, 8L, 3, true)), publishedResults());
+    }
+
+    @Test
+    void leavesRoomOpenUntilFull() throws Exception {
+        waiting(11L);
+        when(matchmakingRepository.getOpenRooms(BUCKET)).thenReturn(new LinkedHashSet<>());
+        when(roomPersistService.nextRoomId()).thenReturn(20L);
+        when(roomRepository.findById(20L)).thenReturn(room(20L, 11L));
+
+        service.match();
+
+        verify(matchmakingRepository).addOpenRoom(BUCKET, 20L);
+        verify(matchmakingRepository, never()).removeOpenRoom(any(), anyLong());
+        verify(messageService).sendRoomUpdate(20L);
+        verify(gameService, never()).startGame(anyLong());
+        assertEquals(List.of(new MatchmakingResult(11L, 20L, 1, false)), publishedResults());
+    }
+
+    @Test
+    void requeuesUnassignedUsersInOrderWhenRoomCreationFails() {
+        waiting(11L, 12L, 13L);
+        when(matchmakingRepository.getOpenRooms(BUCKET)).thenReturn(new LinkedHashSet<>());
+        when(roomPersistService.nextRoomId()).thenThrow(new IllegalStateException("방 번호 발급 실패"));
+
+        service.match();  // 버킷 단위로 오류를 기록하고 다음 주기에 다시 시도
+
+        // 방장이 될 유저도 방이 만들어지기 전이면 대기열에 그대로 돌아감
+        verify(matchmakingRepository).requeueFront(BUCKET, List.of(11L, 12L, 13L));
+        verify(stringRedisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    private void waiting(Long... memberIds) {
+        when(matchmakingRepository.poll(eq(BUCKET), anyInt())).thenReturn(List.of(memberIds));
+    }
+
+    private RoomInfo room(Long roomId, Long hostId, Long... others) {
+        RoomInfo roomInfo = new RoomInfo(roomId, "빠른 대전", null, REQUIRED, null);
+        roomInfo.setHostId(hostId);
+        roomInfo.getParticipant().put(hostId, new Participant(hostId, "p" + hostId));
+        for (Long memberId : others) {
+            roomInfo.getParticipant().put(memberId, new Participant(memberId, "p" + memberId));
+        }
+        return roomInfo;
+    }
+
+    private List<MatchmakingResult> publishedResults() throws Exception {
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("matchmaking-result"), json.capture());
+        return objectMapper.readValue(json.getValue(), new TypeReference<>() {
+        });
+    }
+}
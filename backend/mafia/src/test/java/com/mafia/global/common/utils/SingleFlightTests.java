@@ -0,0 +1,192 @@
+package com.mafia.global.common.utils;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 동시 조회 합치기, 쓰기 후 진행 중 조회에 합류하지 않기, 실패 전파와 항목 정리 확인
+ */
+class SingleFlightTests {
+
+    private static final long KEY = 1L;
+    private static final int WAITERS = 8;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final List<Thread> joiners = new CopyOnWriteArrayList<>();
+    private int expectedJoiners;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        BlockingLoader first = new BlockingLoader(() -> "room-" + loads.incrementAndGet());
+
+        Future<String> leader = submit(first);
+        first.awaitStarted();
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(join());
+        }
+        awaitJoined();
+
+        first.release();
+        assertEquals("room-1", get(leader));
+        for (Future<String> waiter : waiters) {
+            assertEquals("room-1", get(waiter));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void loadStartedBeforeWriteIsNotSharedAfterInvalidate() throws Exception {
+        BlockingLoader stale = new BlockingLoader(() -> "before-write");
+        Future<String> staleLeader = submit(stale);
+        stale.awaitStarted();
+        Future<String> joinedBeforeWrite = join();
+        awaitJoined();
+
+        singleFlight.invalidate();  // 이 노드에서 쓰기 완료
+
+        BlockingLoader fresh = new BlockingLoader(() -> "after-write");
+        Future<String> freshLeader = submit(fresh);
+        fresh.awaitStarted();  // 진행 중인 이전 조회에 합류하지 않고 새로 조회
+        Future<String> joinedAfterWrite = join();
+        awaitJoined();
+
+        // 이전 조회가 먼저 끝나도 새 조회 항목은 지워지지 않음
+        stale.release();
+        assertEquals("before-write", get(staleLeader));
+        assertEquals("before-write", get(joinedBeforeWrite));
+        Future<String> laterCaller = join();
+        awaitJoined();
+
+        fresh.release();
+        assertEquals("after-write", get(freshLeader));
+        assertEquals("after-write", get(joinedAfterWrite));
+        assertEquals("after-write", get(laterCaller));
+    }
+
+    @Test
+    void failureReachesEveryWaiterAndClearsEntry() throws Exception {
+        IllegalStateException failure = new IllegalStateException("조회 실패");
+        BlockingLoader failing = new BlockingLoader(() -> {
+            throw failure;
+        });
+
+        Future<String> leader = submit(failing);
+        failing.awaitStarted();
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(join());
+        }
+        awaitJoined();
+
+        failing.release();
+        assertSame(failure, cause(leader));
+        for (Future<String> waiter : waiters) {
+            assertSame(failure, cause(waiter));
+        }
+
+        // 실패한 조회는 남지 않음 - 다음 요청은 다시 조회
+        assertEquals("retried", singleFlight.load(KEY, () -> "retried"));
+    }
+
+    private Future<String> submit(Supplier<String> loader) {
+        return pool.submit(() -> singleFlight.load(KEY, loader));
+    }
+
+    /**
+     * 진행 중인 조회에 합류할 것으로 기대하는 호출 - {@link #awaitJoined()} 가 이 스레드들이 기다리는 상태가 될 때까지 확인
+     */
+    private Future<String> join() {
+        expectedJoiners++;
+        return pool.submit(() -> {
+            joiners.add(Thread.currentThread());
+            return singleFlight.load(KEY, () -> {
+                throw new AssertionError("합류해야 할 호출이 직접 조회함");
+            });
+        });
+    }
+
+    /**
+     * join() 으로 보낸 호출이 모두 진행 중인 조회의 결과를 기다리는 상태(WAITING)가 될 때까지 대기
+     */
+    private void awaitJoined() {
+        await().atMost(Duration.ofSeconds(5)).until(() -> joiners.size() == expectedJoiners
+            && joiners.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING));
+        joiners.clear();
+        expectedJoiners = 0;
+    }
+
+    private static String get(Future<String> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Throwable cause(Future<String> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    /**
+     * release() 전까지 조회를 붙잡아 두는 로더
+     */
+    private static final class BlockingLoader implements Supplier<String> {
+
+        private final Supplier<String> result;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private BlockingLoader(Supplier<String> result) {
+            this.result = result;
+        }
+
+        @Override
+        public String get() {
+            started.countDown();
+            try {
+                assertTrue(released.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
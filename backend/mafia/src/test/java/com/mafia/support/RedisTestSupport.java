@@ -0,0 +1,76 @@
+package com.mafia.support;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 실제 Redis 로 Lua 스크립트 동작을 확인하는 테스트의 공통 설정
+ * <p>
+ * REDIS_TEST_HOST / REDIS_TEST_PORT (기본 localhost:6379) 의 REDIS_TEST_DB 번 DB(기본 15)를 테스트마다 비우고 사용합니다.
+ * Redis 에 연결할 수 없으면 테스트를 실패가 아닌 건너뜀으로 처리합니다.
+ */
+public abstract class RedisTestSupport {
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    protected static StringRedisTemplate stringRedisTemplate;
+    protected static RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void connectRedis() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+            env("REDIS_TEST_HOST", "localhost"), Integer.parseInt(env("REDIS_TEST_PORT", "6379")));
+        config.setDatabase(Integer.parseInt(env("REDIS_TEST_DB", "15")));
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(config,
+            LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(2)).build());
+        factory.afterPropertiesSet();
+        factory.start();
+
+        try (RedisConnection connection = factory.getConnection()) {
+            connection.ping();
+        } catch (Exception e) {
+            factory.destroy();
+            assumeTrue(false, "Redis 에 연결할 수 없어 건너뜀: " + e.getMessage());
+        }
+        connectionFactory = factory;
+
+        stringRedisTemplate = new StringRedisTemplate(factory);
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(factory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnectRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+        }
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -6,6 +6,8 @@ export const authApi = {
   login: (data: AuthRequest) => api.post<AuthResponse>('/auth/login', data),
   register: (data: AuthRequest) => api.post<AuthResponse>('/auth/register', data),
   logout: () => api.post('/auth/logout'),
+  // REFRESH 쿠키로 ACCESS/REFRESH 재발급 (연결 중인 STOMP 세션도 새 토큰 만료 시각까지 연장됨)
+  reissue: () => api.post('/api/reissue'),
 };
 
 export default authApi;
@@ -1,5 +1,6 @@
 import { Stomp } from '@stomp/stompjs';
 import api from '@/api/axios';
+import authApi from '@/api/authApi';
 import { Room, GameStartResponse, ParticipantMap, GameStart } from '@/types/room';
 
 interface ApiResponse<T> {
@@ -30,6 +31,20 @@ interface RoomEnterResponse {
   myParticipantNo: number;
 }
 
+interface LobbySnapshot {
+  feedId: string;
+  version: number;
+  rooms: Room[];
+}
+
+interface LobbyDelta {
+  feedId: string;
+  version: number;
+  added: Room[];
+  updated: Room[];
+  removed: number[];
+}
+
 interface WebSocketResponse {
   data: {
     isSuccess: boolean;
@@ -38,6 +53,36 @@ interface WebSocketResponse {
 }
 
 let stompClient: any = null;
+let reissueTimer: ReturnType<typeof setInterval> | null = null;
+
+// 연결 중에는 주기적으로 토큰을 재발급해 서버가 STOMP 세션 만료 시각을 늦추도록 함 (액세스 토큰 유효 기간보다 짧게)
+const REISSUE_INTERVAL_MS = 10 * 60 * 1000;
+const ACCESS_TOKEN_EXPIRED = '6004';
+
+const stopReissueTimer = () => {
+  if (reissueTimer) {
+    clearInterval(reissueTimer);
+    reissueTimer = null;
+  }
+};
+
+const startReissueTimer = () => {
+  stopReissueTimer();
+  reissueTimer = setInterval(() => {
+    authApi.reissue().catch((error) => console.error('Token reissue failed:', error));
+  }, REISSUE_INTERVAL_MS);
+};
+
+// 탭이 잠들어 재발급을 놓친 채 세션이 만료되면 재발급 후 페이지를 다시 불러 새 토큰으로 연결, 구독을 처음부터 다시 함
+const handleSessionExpired = async () => {
+  stopReissueTimer();
+  try {
+    await authApi.reissue();
+    window.location.reload();
+  } catch (error) {
+    console.error('Token reissue failed:', error);
+  }
+};
 
 const roomApi = {
   // HTTP 요청
@@ -57,8 +102,15 @@ const roomApi = {
       stompClient.debug = () => {};
 
       return await new Promise<any>((resolve, reject) => {
-        const connectCallback = () => resolve(stompClient);
+        const connectCallback = () => {
+          startReissueTimer();
+          resolve(stompClient);
+        };
         const errorCallback = (error: any) => {
+          if (error?.headers?.message === ACCESS_TOKEN_EXPIRED) {
+            handleSessionExpired();
+            return;
+          }
           console.error('WebSocket connection error:', error);
           reject(error);
         };
@@ -78,17 +130,69 @@ const roomApi = {
     return response;
   },
 
+  // 로비 구독: /app/lobby 스냅샷 수신 후 /topic/lobby/delta 변경분을 버전 순서대로 적용
+  // 버전은 노드마다 따로 매기므로 같은 feedId 의 변경분만 이어 적용하고, 다르면 스냅샷부터 다시 받음
   subscribeLobby: (onRoomsUpdate: (rooms: Room[]) => void) => {
     if (!stompClient) return;
-    return stompClient.subscribe('/topic/lobby', (message: any) => {
+    const rooms = new Map<number, Room>();
+    let feedId: string | null = null;
+    let version = -1;
+    let pending: LobbyDelta[] = [];
+    let snapshotInFlight = false;
+
+    const emit = () => onRoomsUpdate(Array.from(rooms.values()).sort((a, b) => a.roomId - b.roomId));
+
+    const applyDelta = (delta: LobbyDelta) => {
+      if (snapshotInFlight) {
+        pending.push(delta); // 스냅샷 수신 전에는 보관
+        return;
+      }
+      if (delta.feedId === feedId && delta.version <= version) return;
+      if (delta.feedId !== feedId || delta.version !== version + 1) {
+        // 다른 노드의 변경분이거나 누락이 있으면 이 변경분도 보관한 채 스냅샷부터 다시 받음
+        pending.push(delta);
+        requestSnapshot();
+        return;
+      }
+      delta.removed.forEach((roomId) => rooms.delete(roomId));
+      [...delta.added, ...delta.updated].forEach((room) => rooms.set(room.roomId, room));
+      version = delta.version;
+      emit();
+    };
+
+    const requestSnapshot = () => {
+      if (snapshotInFlight) return; // 한 번에 하나의 스냅샷 요청만
+      snapshotInFlight = true;
+      const snapshotSubscription = stompClient.subscribe('/app/lobby', (message: any) => {
+        try {
+          const snapshot: LobbySnapshot = JSON.parse(message.body);
+          rooms.clear();
+          snapshot.rooms.forEach((room) => rooms.set(room.roomId, room));
+          feedId = snapshot.feedId;
+          version = snapshot.version;
+          emit();
+        } catch (error) {
+          console.error('Error processing lobby snapshot:', error);
+        } finally {
+          snapshotSubscription.unsubscribe();
+          snapshotInFlight = false;
+          // 스냅샷과 같은 피드의 변경분만 순서대로 적용 (스냅샷에 이미 반영된 버전은 건너뜀)
+          const buffered = pending.filter((delta) => delta.feedId === feedId);
+          pending = [];
+          buffered.sort((a, b) => a.version - b.version).forEach(applyDelta);
+        }
+      });
+    };
+
+    const deltaSubscription = stompClient.subscribe('/topic/lobby/delta', (message: any) => {
       try {
-        const rooms = JSON.parse(message.body);
-        // console.log('방 목록 웹소켓 데이터:', JSON.stringify(rooms, null, 2));
-        onRoomsUpdate(rooms);
+        applyDelta(JSON.parse(message.body));
       } catch (error) {
-        console.error('Error processing room list:', error);
+        console.error('Error processing lobby delta:', error);
       }
     });
+    requestSnapshot();
+    return deltaSubscription;
   },
 
   subscribeRoom: (roomId: number, onRoomUpdate: (roomInfo: ParticipantMap | GameStart) => void) => {
@@ -224,6 +328,7 @@ const roomApi = {
   },
 
   disconnect: () => {
+    stopReissueTimer();
     if (stompClient) {
       stompClient.disconnect();
       stompClient = null;
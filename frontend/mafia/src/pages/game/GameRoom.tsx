@@ -136,6 +136,25 @@ function GameRoom(): JSX.Element {
         newActiveSubs.push(newActiveSub);
       });
 
+      // 역할별 비공개 이벤트 (좀비 지목, 조사 결과, 치료 등) - 시스템 메시지와 같은 형식
+      newActiveSubs.push(
+        stompClientRef.current.subscribe('/user/queue/game', (msg: { body: string }) => {
+          phaserEventEmitter.current.emit('SYSTEM_MESSAGE', JSON.parse(msg.body));
+        }),
+      );
+
+      // 게임 행동(투표, 밤 타겟 등) 결과와 오류는 요청한 세션에게만 옴
+      newActiveSubs.push(
+        stompClientRef.current.subscribe('/user/queue/game/action', (msg: { body: string }) => {
+          const response = JSON.parse(msg.body);
+          if (!response.isSuccess) {
+            handleMessage('SYSTEM', JSON.stringify({ content: response.message }));
+            return;
+          }
+          phaserEventEmitter.current.emit('ACTION_RESULT', response.result);
+        }),
+      );
+
       setActiveSubscriptions(newActiveSubs);
     }
   }, [roomId, gameState?.roomStatus, subscriptions]);